@@ -0,0 +1,91 @@
+// k6 load test for the blocking request path: GET /tasks (keyset page + fetch graph),
+// GET /tasks/{id} and POST /tasks, all behind JWT auth.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=2000 load-test/tasks-load.js
+//
+// Run it once with VIRTUAL_THREADS_ENABLED=false and once with true against the same database
+// and compare http_reqs (throughput) and the p(99)/p(99.9) of http_req_duration.
+import http from 'k6/http';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '2000');
+const DURATION = __ENV.DURATION || '2m';
+const WRITE_RATIO = parseFloat(__ENV.WRITE_RATIO || '0.1');
+
+export const options = {
+    discardResponseBodies: false,
+    summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'p(99.9)', 'max'],
+    scenarios: {
+        clients: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: DURATION, target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        // A run whose writes are rejected measures error responses, so it must not pass
+        'checks{check:created}': ['rate>0.99'],
+    },
+};
+
+function params(token, name) {
+    const headers = { 'Content-Type': 'application/json' };
+    if (token) {
+        headers.Authorization = `Bearer ${token}`;
+    }
+    return name ? { headers, tags: { name } } : { headers };
+}
+
+export function setup() {
+    const username = `load-${Date.now()}`;
+    const password = 'load-test-password';
+    http.post(`${BASE_URL}/api/auth/register`, JSON.stringify({ username, password, role: 'ADMIN' }), params());
+    const login = http.post(`${BASE_URL}/api/auth/login`, JSON.stringify({ username, password }), params());
+    check(login, { 'logged in': (r) => r.status === 200 });
+    const token = login.json('token');
+
+    // Every task needs a department; all writes go to one created for this run
+    const department = http.post(`${BASE_URL}/api/departments`,
+        JSON.stringify({ name: username, description: 'k6 load test' }), params(token));
+    if (!check(department, { 'department created': (r) => r.status === 200 })) {
+        fail(`could not create a department: ${department.status} ${department.body}`);
+    }
+    const departmentId = department.json('id');
+
+    const page = http.get(`${BASE_URL}/tasks?size=200`, params(token));
+    const ids = page.status === 200 ? page.json('content').map((t) => t.id) : [];
+    return { token, departmentId, ids };
+}
+
+export default function (data) {
+    if (Math.random() < WRITE_RATIO) {
+        const due = new Date(Date.now() + 7 * 24 * 3600 * 1000).toISOString().slice(0, 10);
+        const body = JSON.stringify({
+            title: `load ${__VU}-${__ITER}`,
+            description: 'k6',
+            dueDate: due,
+            departmentId: data.departmentId,
+        });
+        const res = http.post(`${BASE_URL}/tasks`, body, params(data.token, 'POST /tasks'));
+        // POST /tasks answers 200 with the stored task
+        check(res, { 'created': (r) => r.status === 200 && r.json('id') !== undefined });
+        return;
+    }
+
+    if (data.ids.length > 0 && Math.random() < 0.5) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        const res = http.get(`${BASE_URL}/tasks/${id}`, params(data.token, 'GET /tasks/{id}'));
+        check(res, { 'task found': (r) => r.status === 200 });
+        return;
+    }
+
+    const res = http.get(`${BASE_URL}/tasks?size=50`, params(data.token, 'GET /tasks'));
+    check(res, { 'page listed': (r) => r.status === 200 });
+}
@@ -0,0 +1,108 @@
+package org.pragadeesh.taskmanagement.benchmark;
+
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Role;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.pragadeesh.taskmanagement.model.User;
+import org.pragadeesh.taskmanagement.util.JwtUtil;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Entity graphs and collaborators shared by the benchmarks, built without a Spring context.
+ */
+final class BenchmarkFixtures {
+
+    static final String SECRET_KEY = "YmVuY2htYXJrLXNlY3JldC1rZXktdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaHMyNTY";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "SECRET_KEY", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 10_000L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+    static User user(String username) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername(username);
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z2lYh8ZtVUQBUmnuMtMa6e0u");
+        user.setRole(Role.USER);
+        return user;
+    }
+
+    static Department department() {
+        Department department = new Department();
+        department.setId(UUID.randomUUID());
+        department.setName("Engineering");
+        department.setDescription("Builds and runs the product");
+        return department;
+    }
+
+    /**
+     * Tasks spread over {@code departments} departments, each assigned to {@code assigneesPerTask}
+     * users out of a pool of {@code users}, so pages repeat departments and users the way real ones do.
+     */
+    static List<Task> tasks(int count, int departments, int users, int assigneesPerTask) {
+        List<Department> departmentPool = new ArrayList<>(departments);
+        for (int i = 0; i < departments; i++) {
+            Department department = department();
+            department.setName("Department " + i);
+            departmentPool.add(department);
+        }
+        List<User> userPool = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            userPool.add(user("user" + i));
+        }
+
+        List<Task> tasks = tasks(count, 0);
+        for (int i = 0; i < count; i++) {
+            Task task = tasks.get(i);
+            task.setDepartment(departmentPool.get(i % departments));
+            Set<User> assignees = new HashSet<>();
+            for (int a = 0; a < assigneesPerTask; a++) {
+                assignees.add(userPool.get((i * 7 + a * 13) % users));
+            }
+            task.setAssignedUsers(assignees);
+            task.setVersion((long) (i % 5));
+        }
+        return tasks;
+    }
+
+    static List<Task> tasks(int count, int assigneesPerTask) {
+        Department department = department();
+        List<User> users = new ArrayList<>(assigneesPerTask);
+        for (int i = 0; i < assigneesPerTask; i++) {
+            users.add(user("user" + i));
+        }
+
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task();
+            task.setId(UUID.randomUUID());
+            task.setTitle("Task " + i);
+            task.setDescription("Reconcile the ledger entries for batch " + i + " and report discrepancies");
+            task.setDueDate(LocalDate.now().plusDays(7));
+            task.setStatus(TaskStatus.IN_PROGRESS);
+            task.setDepartment(department);
+            Set<User> assignees = new HashSet<>(users);
+            task.setAssignedUsers(assignees);
+            task.setCreatedAt(LocalDateTime.now());
+            task.setUpdatedAt(LocalDateTime.now());
+            tasks.add(task);
+        }
+        return tasks;
+    }
+}
@@ -0,0 +1,67 @@
+package org.pragadeesh.taskmanagement.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pragadeesh.taskmanagement.filter.JwtRequestFilter;
+import org.pragadeesh.taskmanagement.model.User;
+import org.pragadeesh.taskmanagement.repository.UserRepository;
+import org.pragadeesh.taskmanagement.service.UserDetailsServiceImp;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.pragadeesh.taskmanagement.util.JwtUtil;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Full pass through the authentication filter for a bearer token, with the user repository mocked.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtRequestFilterBenchmark {
+
+    private JwtRequestFilter filter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+        User user = BenchmarkFixtures.user("alice");
+
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByUsername("alice")).thenReturn(Optional.of(user));
+        UserDirectory userDirectory = new UserDirectory(userRepository, 10_000, Duration.ofMinutes(5));
+
+        filter = new JwtRequestFilter(jwtUtil, new UserDetailsServiceImp(userDirectory, userRepository), new SimpleMeterRegistry());
+        authorizationHeader = "Bearer " + jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse doFilterInternal() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/tasks");
+        request.addHeader("Authorization", authorizationHeader);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+}
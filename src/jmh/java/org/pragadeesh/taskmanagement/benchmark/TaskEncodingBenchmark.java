@@ -0,0 +1,96 @@
+package org.pragadeesh.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pragadeesh.taskmanagement.dto.TaskPageDto;
+import org.pragadeesh.taskmanagement.mapper.TaskMapper;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.util.TaskListShape;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bytes on the wire and serialization cost of a 10k-task list, per encoding (the Accept header) and
+ * list shape (the shape parameter). Mappers are configured like WebConfig configures the converters.
+ * Encoded sizes are printed once per trial, before the measurements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TaskEncodingBenchmark {
+
+    @Param({"10000"})
+    private int tasks;
+
+    @Param({"json", "cbor", "smile"})
+    private String encoding;
+
+    @Param({"full", "normalized"})
+    private String shape;
+
+    private ObjectMapper objectMapper;
+    private TaskMapper taskMapper;
+    private TaskListShape listShape;
+    private List<Task> entities;
+    private Object page;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = switch (encoding) {
+            case "json" -> Jackson2ObjectMapperBuilder.json().build();
+            case "cbor" -> binaryMapper(new CBORFactory());
+            case "smile" -> binaryMapper(new SmileFactory());
+            default -> throw new IllegalArgumentException(encoding);
+        };
+        taskMapper = new TaskMapper();
+        listShape = TaskListShape.from(shape);
+        // 20 departments, 3 assignees per task out of 500 users
+        entities = BenchmarkFixtures.tasks(tasks, 20, 500, 3);
+        page = toPage(entities);
+
+        System.out.printf("%n%s/%s: %,d bytes for %,d tasks%n",
+                encoding, shape, objectMapper.writeValueAsBytes(page).length, tasks);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    // What the controller does per request: map the entities to the chosen shape, then encode
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(toPage(entities));
+    }
+
+    private Object toPage(List<Task> tasks) {
+        if (listShape == TaskListShape.NORMALIZED) {
+            return taskMapper.toNormalizedPage(tasks);
+        }
+        TaskPageDto page = new TaskPageDto();
+        page.setContent(tasks.stream().map(taskMapper::toDto).toList());
+        page.setSize(tasks.size());
+        return page;
+    }
+
+    private static ObjectMapper binaryMapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json()
+                .factory(factory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
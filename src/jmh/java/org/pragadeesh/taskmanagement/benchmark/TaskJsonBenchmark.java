@@ -0,0 +1,50 @@
+package org.pragadeesh.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pragadeesh.taskmanagement.dto.TaskResponseDto;
+import org.pragadeesh.taskmanagement.mapper.TaskMapper;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of task lists, with an ObjectMapper configured the way Spring MVC builds it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskJsonBenchmark {
+
+    @Param({"50", "200"})
+    private int tasks;
+
+    @Param({"0", "10"})
+    private int assignees;
+
+    private ObjectMapper objectMapper;
+    private List<TaskResponseDto> dtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        TaskMapper taskMapper = new TaskMapper();
+        dtos = BenchmarkFixtures.tasks(tasks, assignees).stream()
+                .map(taskMapper::toDto)
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeTaskList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+}
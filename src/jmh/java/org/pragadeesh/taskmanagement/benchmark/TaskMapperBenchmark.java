@@ -0,0 +1,37 @@
+package org.pragadeesh.taskmanagement.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pragadeesh.taskmanagement.dto.TaskResponseDto;
+import org.pragadeesh.taskmanagement.mapper.TaskMapper;
+import org.pragadeesh.taskmanagement.model.Task;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TaskMapperBenchmark {
+
+    @Param({"0", "10", "100"})
+    private int assignees;
+
+    private final TaskMapper taskMapper = new TaskMapper();
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        task = BenchmarkFixtures.tasks(1, assignees).get(0);
+    }
+
+    @Benchmark
+    public TaskResponseDto toDto() {
+        return taskMapper.toDto(task);
+    }
+}
@@ -0,0 +1,95 @@
+package org.pragadeesh.taskmanagement.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.pragadeesh.taskmanagement.search.TaskSearchHit;
+import org.pragadeesh.taskmanagement.search.TaskSearchIndex;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of the in-memory search index over a synthetic corpus whose word frequencies follow
+ * a Zipf distribution, like natural text: a few very common words and a long tail of rare ones.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TaskSearchBenchmark {
+
+    private static final int VOCABULARY = 50_000;
+
+    @Param({"100000", "1000000"})
+    private int tasks;
+
+    private final TaskSearchIndex index = new TaskSearchIndex();
+    private String[] words;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        words = new String[VOCABULARY];
+        for (int i = 0; i < VOCABULARY; i++) {
+            words[i] = "w" + Integer.toString(i, 36);
+        }
+        double[] cumulative = zipf(VOCABULARY);
+        for (int i = 0; i < tasks; i++) {
+            index.index(UUID.randomUUID(), sentence(random, cumulative, 6), sentence(random, cumulative, 30));
+        }
+    }
+
+    // Rank 5: appears in roughly a third of all tasks
+    @Benchmark
+    public List<TaskSearchHit> commonWord() {
+        return index.search(words[5], 20);
+    }
+
+    @Benchmark
+    public List<TaskSearchHit> rareWord() {
+        return index.search(words[20_000], 20);
+    }
+
+    @Benchmark
+    public List<TaskSearchHit> commonAndRareWord() {
+        return index.search(words[5] + " " + words[2_000], 20);
+    }
+
+    // The last word is a three-character prefix of a few dozen rarer words
+    @Benchmark
+    public List<TaskSearchHit> prefix() {
+        return index.search(words[100] + " " + words[46], 20);
+    }
+
+    private String sentence(Random random, double[] cumulative, int length) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+            sentence.append(words[Math.min(rank < 0 ? -rank - 1 : rank, VOCABULARY - 1)]).append(' ');
+        }
+        return sentence.toString();
+    }
+
+    private static double[] zipf(int size) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += 1.0 / (i + 1);
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+}
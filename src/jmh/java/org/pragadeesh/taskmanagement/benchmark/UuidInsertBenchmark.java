@@ -0,0 +1,140 @@
+package org.pragadeesh.taskmanagement.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pragadeesh.taskmanagement.model.TimeOrderedUuidGenerator;
+
+import java.nio.ByteBuffer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Insert throughput into an InnoDB table keyed by BINARY(16), with random (v4) versus time-ordered
+ * (v7) ids. The table has the shape of {@code tasks}: the clustered primary key plus a secondary
+ * index on (created_at, id). Once the primary key outgrows the buffer pool, random ids make almost
+ * every insert read and split a different leaf page, while time-ordered ids keep appending to the
+ * last one.
+ * <p>
+ * Needs a MySQL server and is therefore left out of the default benchmark run. Connection settings
+ * come from {@code -Dbenchmark.jdbc.url}, {@code -Dbenchmark.jdbc.user} and
+ * {@code -Dbenchmark.jdbc.password}, passed to the forked JVM with {@code -jvmArgsAppend}. Each
+ * run is one shot of {@code rows} inserts into a freshly created table. Progress is printed every
+ * million rows, so a slowdown as the index grows shows up next to the total time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final String TABLE = "uuid_insert_benchmark";
+    private static final int BATCH_SIZE = 1_000;
+    private static final int PROGRESS_EVERY = 1_000_000;
+
+    @Param({"random", "time-ordered"})
+    private String ids;
+
+    @Param({"10000000"})
+    private int rows;
+
+    private Connection connection;
+    private Supplier<UUID> idGenerator;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws SQLException {
+        String url = System.getProperty("benchmark.jdbc.url",
+                "jdbc:mysql://localhost:3306/taskmanagement_benchmark?rewriteBatchedStatements=true");
+        connection = DriverManager.getConnection(url, System.getProperty("benchmark.jdbc.user", "root"),
+                System.getProperty("benchmark.jdbc.password", ""));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " ("
+                    + "id BINARY(16) NOT NULL PRIMARY KEY, "
+                    + "title VARCHAR(255) NOT NULL, "
+                    + "created_at DATETIME(6) NOT NULL, "
+                    + "INDEX idx_" + TABLE + "_created_at_id (created_at, id))");
+        }
+        connection.setAutoCommit(false);
+        idGenerator = switch (ids) {
+            case "random" -> UUID::randomUUID;
+            case "time-ordered" -> TimeOrderedUuidGenerator::next;
+            default -> throw new IllegalArgumentException("Unknown id type: " + ids);
+        };
+    }
+
+    // One transaction per JDBC batch, as POST /tasks/batch commits its chunks
+    @Benchmark
+    public int insert() throws SQLException {
+        long started = System.nanoTime();
+        long lastProgress = started;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (id, title, created_at) VALUES (?, ?, ?)")) {
+            for (int row = 1; row <= rows; row++) {
+                insert.setBytes(1, toBytes(idGenerator.get()));
+                insert.setString(2, "Task " + row);
+                insert.setTimestamp(3, new Timestamp(System.currentTimeMillis()));
+                insert.addBatch();
+                if (row % BATCH_SIZE == 0 || row == rows) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+                if (row % PROGRESS_EVERY == 0) {
+                    long now = System.nanoTime();
+                    System.out.printf("%s: %,d rows, %,.0f rows/s over the last %,d%n", ids, row,
+                            PROGRESS_EVERY / ((now - lastProgress) / 1e9), PROGRESS_EVERY);
+                    lastProgress = now;
+                }
+            }
+        }
+        System.out.printf("%s: %,d rows in %.1f s%n", ids, rows, (System.nanoTime() - started) / 1e9);
+        return rows;
+    }
+
+    // Index sizes show the cost of half-empty pages left by random inserts
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + TABLE);
+            try (ResultSet size = statement.executeQuery("SELECT data_length, index_length "
+                    + "FROM information_schema.tables "
+                    + "WHERE table_schema = DATABASE() AND table_name = '" + TABLE + "'")) {
+                if (size.next()) {
+                    System.out.printf("%s: primary key %,d MB, secondary index %,d MB%n", ids,
+                            size.getLong(1) >> 20, size.getLong(2) >> 20);
+                }
+            }
+            statement.execute("DROP TABLE " + TABLE);
+        } finally {
+            connection.close();
+        }
+    }
+
+    // Same layout as Hibernate's BINARY(16) mapping: most significant bits first
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -19,7 +19,11 @@ public enum ErrorCodes {
     DEPARTMENT_ALREADY_EXISTS(409, "Department already exists"),
     INVALID_ASSIGNMENT(400, "Invalid assignment request"),
     USER_NOT_FOUND(404, "User not found"),
-    INVALID_USER_ASSIGNMENT(400, "Invalid user assignment");
+    INVALID_USER_ASSIGNMENT(400, "Invalid user assignment"),
+    TASK_VERSION_MISMATCH(412, "Task has been modified since it was read"),
+    TASK_VERSION_CONFLICT(409, "Task was modified concurrently"),
+    TASK_STREAM_UNAVAILABLE(503, "Too many open task streams, retry later"),
+    PASSWORD_HASHING_BUSY(429, "Too many password checks in progress, retry later");
 
 
     private final int status;
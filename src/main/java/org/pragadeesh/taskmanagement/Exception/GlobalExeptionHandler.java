@@ -5,7 +5,10 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.FieldError;
@@ -44,6 +47,68 @@ public class GlobalExeptionHandler {
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTaskVersionMismatchException(TaskVersionMismatchException ex, HttpServletRequest request) {
+        ErrorResponse error = new ErrorResponse(
+            ErrorCodes.TASK_VERSION_MISMATCH.getStatus(),
+            ex.getMessage(),
+            LocalDateTime.now(),
+            request.getRequestURI(),
+            ErrorCodes.TASK_VERSION_MISMATCH.name()
+        );
+        return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // Another write committed between our read and our flush. With If-Match the client asked for exactly
+    // this check, so it is a failed precondition; without it the client learns its update was not applied.
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+        ErrorCodes code = request.getHeader(HttpHeaders.IF_MATCH) != null
+                ? ErrorCodes.TASK_VERSION_MISMATCH
+                : ErrorCodes.TASK_VERSION_CONFLICT;
+        ErrorResponse error = new ErrorResponse(
+            code.getStatus(),
+            code.getMessage(),
+            LocalDateTime.now(),
+            request.getRequestURI(),
+            code.name()
+        );
+        return new ResponseEntity<>(error, HttpStatus.valueOf(code.getStatus()));
+    }
+
+    @ExceptionHandler(TaskStreamUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleTaskStreamUnavailableException(
+            TaskStreamUnavailableException ex, HttpServletRequest request) {
+        ErrorResponse error = new ErrorResponse(
+            ErrorCodes.TASK_STREAM_UNAVAILABLE.getStatus(),
+            ex.getMessage(),
+            LocalDateTime.now(),
+            request.getRequestURI(),
+            ErrorCodes.TASK_STREAM_UNAVAILABLE.name()
+        );
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(error);
+    }
+
+    // Raised before any hashing work was queued, so the client can retry as soon as the login storm passes
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingBusyException(
+            PasswordHashingBusyException ex, HttpServletRequest request) {
+        ErrorResponse error = new ErrorResponse(
+            ErrorCodes.PASSWORD_HASHING_BUSY.getStatus(),
+            ex.getMessage(),
+            LocalDateTime.now(),
+            request.getRequestURI(),
+            ErrorCodes.PASSWORD_HASHING_BUSY.name()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ExceptionHandler(UserAlreadyExistsException.class)
     public ResponseEntity<ErrorResponse> handleUserAlreadyExistsException(UserAlreadyExistsException ex, HttpServletRequest request) {
         ErrorResponse error = new ErrorResponse(
@@ -136,6 +201,19 @@ public class GlobalExeptionHandler {
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(UserNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUserNotFoundException(
+            UserNotFoundException ex, HttpServletRequest request) {
+        ErrorResponse error = new ErrorResponse(
+                ErrorCodes.USER_NOT_FOUND.getStatus(),
+                ex.getMessage(),
+                LocalDateTime.now(),
+                request.getRequestURI(),
+                ErrorCodes.USER_NOT_FOUND.name()
+        );
+        return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(
             IllegalArgumentException ex, HttpServletRequest request) {
@@ -0,0 +1,7 @@
+package org.pragadeesh.taskmanagement.Exception;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.pragadeesh.taskmanagement.Exception;
+
+public class TaskStreamUnavailableException extends RuntimeException {
+    public TaskStreamUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.pragadeesh.taskmanagement.Exception;
+
+public class TaskVersionMismatchException extends RuntimeException {
+    public TaskVersionMismatchException(String message) {
+        super(message);
+    }
+}
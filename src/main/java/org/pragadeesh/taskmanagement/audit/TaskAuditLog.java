@@ -0,0 +1,123 @@
+package org.pragadeesh.taskmanagement.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.pragadeesh.taskmanagement.event.TaskChangedEvent;
+import org.pragadeesh.taskmanagement.model.TaskAudit;
+import org.pragadeesh.taskmanagement.model.TimeOrderedUuidGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounded buffer between task writes and the {@code task_audit} table. Each committed change
+ * becomes a compact {@link TaskAudit} row on the writing thread and waits here for
+ * {@link TaskAuditWriter}, which inserts rows in batches in the background, so no request waits
+ * for its audit row to reach the database.
+ * <p>
+ * When the writer falls behind and the buffer is full, the row is dropped and counted right away.
+ * Producers never wait: a bulk write publishes one event per task after commit, and any wait
+ * would add up across thousands of rows on the request thread.
+ */
+@Component
+public class TaskAuditLog {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskAuditLog.class);
+
+    private final BlockingQueue<TaskAudit> buffer;
+    private final Counter droppedCounter;
+    // Set while rows are being dropped, so a burst of drops logs once instead of once per row
+    private final AtomicBoolean dropping = new AtomicBoolean();
+
+    public TaskAuditLog(@Value("${tasks.audit.buffer-capacity:10000}") int capacity,
+                        MeterRegistry meterRegistry) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        Gauge.builder("tasks.audit.buffer.size", buffer, BlockingQueue::size)
+                .description("Audit rows waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("tasks.audit.buffer.capacity", () -> capacity)
+                .description("Audit rows the buffer can hold")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("tasks.audit.dropped")
+                .description("Audit rows lost")
+                .tag("reason", "buffer_full")
+                .register(meterRegistry);
+    }
+
+    // Same delivery rules as the search index and counters: only committed writes are audited
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        append(toAudit(event, currentActor()));
+    }
+
+    /**
+     * Queues {@code audit} for writing and returns {@code false} if it had to be dropped.
+     */
+    public boolean append(TaskAudit audit) {
+        if (buffer.offer(audit)) {
+            dropping.set(false);
+            return true;
+        }
+        droppedCounter.increment();
+        if (dropping.compareAndSet(false, true)) {
+            logger.warn("Audit buffer full, dropping audit rows until it drains (first: {} of task {})",
+                    audit.getChangeType(), audit.getTaskId());
+        }
+        return false;
+    }
+
+    /**
+     * Moves up to {@code maxRows} rows into {@code batch}, waiting up to {@code timeout} for the
+     * first one. Returns the number of rows moved.
+     */
+    int drainTo(List<TaskAudit> batch, int maxRows, Duration timeout) throws InterruptedException {
+        TaskAudit first = buffer.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return 0;
+        }
+        batch.add(first);
+        return 1 + buffer.drainTo(batch, maxRows - 1);
+    }
+
+    public int size() {
+        return buffer.size();
+    }
+
+    private static TaskAudit toAudit(TaskChangedEvent event, String actor) {
+        TaskAudit audit = new TaskAudit();
+        audit.setId(TimeOrderedUuidGenerator.next());
+        audit.setTaskId(event.getTaskId());
+        audit.setChangeType(TaskAudit.ChangeType.valueOf(event.getType().name()));
+        audit.setActor(actor);
+        audit.setChangedAt(LocalDateTime.now());
+        audit.setTitle(event.getTitle());
+        audit.setStatus(event.getStatus());
+        audit.setPreviousStatus(event.getPreviousStatus());
+        audit.setDepartmentId(event.getDepartmentId());
+        audit.setPreviousDepartmentId(event.getPreviousDepartmentId());
+        return audit;
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
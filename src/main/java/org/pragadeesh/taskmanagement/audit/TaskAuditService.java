@@ -0,0 +1,37 @@
+package org.pragadeesh.taskmanagement.audit;
+
+import lombok.RequiredArgsConstructor;
+import org.pragadeesh.taskmanagement.Exception.TaskNotFoundException;
+import org.pragadeesh.taskmanagement.model.TaskAudit;
+import org.pragadeesh.taskmanagement.repository.TaskAuditRepository;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class TaskAuditService {
+
+    private final TaskAuditRepository taskAuditRepository;
+    private final TaskRepository taskRepository;
+
+    /**
+     * One page of a task's history, newest change first, starting after the change {@code before}.
+     * Rows are written asynchronously, so the latest changes can take a moment to show up. History
+     * stays available after the task is deleted; only a task that never had any is reported missing.
+     */
+    @Transactional(readOnly = true)
+    public List<TaskAudit> getHistory(UUID taskId, UUID before, int limit) {
+        List<TaskAudit> history = before == null
+                ? taskAuditRepository.findByTaskIdOrderByIdDesc(taskId, Limit.of(limit))
+                : taskAuditRepository.findByTaskIdAndIdLessThanOrderByIdDesc(taskId, before, Limit.of(limit));
+        if (history.isEmpty() && before == null && !taskRepository.existsById(taskId)) {
+            throw new TaskNotFoundException("Task not found with id: " + taskId);
+        }
+        return history;
+    }
+}
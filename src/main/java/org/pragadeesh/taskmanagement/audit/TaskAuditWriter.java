@@ -0,0 +1,161 @@
+package org.pragadeesh.taskmanagement.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.pragadeesh.taskmanagement.model.TaskAudit;
+import org.pragadeesh.taskmanagement.util.UuidBytes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Background thread that drains {@link TaskAuditLog} into {@code task_audit} with multi-row
+ * INSERTs of up to {@code tasks.audit.batch-size} rows. A batch is whatever has queued up since the
+ * last insert, so rows go out immediately when traffic is light and in large batches under load.
+ * <p>
+ * On shutdown the thread keeps going until the buffer is empty. Its phase is below the web
+ * server's, so it stops only after in-flight requests have finished and queued their rows.
+ */
+@Component
+public class TaskAuditWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskAuditWriter.class);
+
+    private static final String INSERT = "INSERT INTO task_audit (id, task_id, change_type, actor, changed_at, " +
+            "title, status, previous_status, department_id, previous_department_id) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 10;
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(200);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(500);
+
+    private final TaskAuditLog auditLog;
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizes;
+    private final Counter droppedCounter;
+
+    private volatile boolean running;
+    private volatile Runnable onStopped;
+    private Thread thread;
+
+    public TaskAuditWriter(TaskAuditLog auditLog, JdbcTemplate jdbcTemplate,
+                           @Value("${tasks.audit.batch-size:500}") int batchSize,
+                           MeterRegistry meterRegistry) {
+        this.auditLog = auditLog;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.flushTimer = Timer.builder("tasks.audit.flush")
+                .description("Time spent inserting one batch of audit rows")
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("tasks.audit.batch.size")
+                .description("Audit rows per INSERT")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("tasks.audit.dropped")
+                .description("Audit rows lost")
+                .tag("reason", "write_failed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "task-audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop(Runnable callback) {
+        onStopped = callback;
+        running = false;
+    }
+
+    @Override
+    public void stop() {
+        stop(() -> { });
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    private void run() {
+        List<TaskAudit> batch = new ArrayList<>(batchSize);
+        try {
+            while (running || auditLog.size() > 0) {
+                if (auditLog.drainTo(batch, batchSize, POLL_TIMEOUT) > 0) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            logger.warn("Audit writer interrupted with {} rows still buffered", auditLog.size() + batch.size());
+            Thread.currentThread().interrupt();
+        } finally {
+            Runnable callback = onStopped;
+            if (callback != null) {
+                callback.run();
+            }
+        }
+    }
+
+    private void write(List<TaskAudit> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                flushTimer.record(() -> insert(batch));
+                batchSizes.record(batch.size());
+                return;
+            } catch (DataAccessException e) {
+                if (attempt == MAX_ATTEMPTS) {
+                    droppedCounter.increment(batch.size());
+                    logger.error("Dropped {} audit rows after {} attempts", batch.size(), attempt, e);
+                    return;
+                }
+                logger.warn("Writing {} audit rows failed, retrying: {}", batch.size(), e.getMessage());
+                Thread.sleep(RETRY_BACKOFF.multipliedBy(attempt).toMillis());
+            }
+        }
+    }
+
+    private void insert(List<TaskAudit> batch) {
+        StringBuilder sql = new StringBuilder(INSERT.length() + batch.size() * (ROW.length() + 2)).append(INSERT);
+        Object[] args = new Object[batch.size() * COLUMNS];
+        int i = 0;
+        for (TaskAudit audit : batch) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW);
+            args[i++] = UuidBytes.toBytes(audit.getId());
+            args[i++] = UuidBytes.toBytes(audit.getTaskId());
+            args[i++] = audit.getChangeType().name();
+            args[i++] = audit.getActor();
+            args[i++] = Timestamp.valueOf(audit.getChangedAt());
+            args[i++] = audit.getTitle();
+            args[i++] = audit.getStatus() == null ? null : audit.getStatus().name();
+            args[i++] = audit.getPreviousStatus() == null ? null : audit.getPreviousStatus().name();
+            args[i++] = UuidBytes.toBytes(audit.getDepartmentId());
+            args[i++] = UuidBytes.toBytes(audit.getPreviousDepartmentId());
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+}
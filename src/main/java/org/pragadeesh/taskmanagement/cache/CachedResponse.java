@@ -0,0 +1,51 @@
+package org.pragadeesh.taskmanagement.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A response body serialized to JSON once, with its gzip form when the body is large enough to be
+ * worth compressing, and the headers it was first sent with (ETag, Link).
+ */
+public final class CachedResponse {
+
+    // Rough cost of the key, the headers and the cache's own bookkeeping per entry
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final byte[] body;
+    private final byte[] gzipped;
+    private final HttpHeaders headers;
+
+    CachedResponse(byte[] body, byte[] gzipped, HttpHeaders headers) {
+        this.body = body;
+        this.gzipped = gzipped;
+        this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+    }
+
+    public ResponseEntity<byte[]> toResponse(boolean acceptsGzip) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .headers(headers)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzipped == null) {
+            return response.body(body);
+        }
+        // The encoding depends on the request, so shared caches must not hand one client's form to another.
+        // varyBy replaces the stored Vary, so it is repeated here.
+        List<String> vary = new ArrayList<>(headers.getVary());
+        vary.add(HttpHeaders.ACCEPT_ENCODING);
+        response.varyBy(vary.toArray(String[]::new));
+        if (!acceptsGzip) {
+            return response.body(body);
+        }
+        return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzipped);
+    }
+
+    int weight() {
+        long bytes = ENTRY_OVERHEAD + (long) body.length + (gzipped == null ? 0 : gzipped.length);
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+}
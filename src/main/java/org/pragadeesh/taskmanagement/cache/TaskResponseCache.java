@@ -0,0 +1,167 @@
+package org.pragadeesh.taskmanagement.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.pragadeesh.taskmanagement.event.TaskChangedEvent;
+import org.pragadeesh.taskmanagement.util.TaskETag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized JSON responses of {@code GET /tasks/{id}} and of department-filtered listings, so
+ * repeated reads between writes skip the entity load, the mapping and Jackson. Entries are bounded
+ * by their size in bytes and expire after a TTL.
+ * <p>
+ * Every entry is keyed by what it answers plus the version of the data it was built from. A
+ * committed task change bumps the version of the task and of its old and new department, which
+ * makes older entries unreachable; they age out of the cache on their own. Versions are kept per
+ * stripe of task or department ids, so memory does not grow with the number of tasks, at the cost
+ * of a write also retiring the entries of the few other ids in its stripe.
+ * <p>
+ * Callers read the version before loading what they cache. A write that commits during the load
+ * then always leaves the entry behind an older version. Loads for the cache should go to the
+ * primary, or a lagging replica's rows would be cached under the new version. Like the other
+ * in-process caches, other instances' writes show up after the TTL.
+ */
+@Component
+public class TaskResponseCache {
+
+    private static final int TASK_STRIPES = 4096;
+    private static final int DEPARTMENT_STRIPES = 256;
+
+    private final ObjectMapper objectMapper;
+    private final int compressMinSize;
+    private final Cache<Key, CachedResponse> responses;
+
+    // Versions are drawn from one clock, so the larger of a stripe's and the global version
+    // changes whenever either of them is bumped
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicLong globalVersion = new AtomicLong();
+    private final AtomicLongArray taskVersions = new AtomicLongArray(TASK_STRIPES);
+    private final AtomicLongArray departmentVersions = new AtomicLongArray(DEPARTMENT_STRIPES);
+
+    public TaskResponseCache(ObjectMapper objectMapper,
+                             @Value("${tasks.response-cache.max-size:64MB}") DataSize maxSize,
+                             @Value("${tasks.response-cache.ttl:30s}") Duration ttl,
+                             @Value("${tasks.response-cache.compress-min-size:1KB}") DataSize compressMinSize) {
+        this.objectMapper = objectMapper;
+        this.compressMinSize = (int) Math.min(compressMinSize.toBytes(), Integer.MAX_VALUE);
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, CachedResponse response) -> response.weight())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public long taskVersion(UUID taskId) {
+        return Math.max(taskVersions.get(stripe(taskId, TASK_STRIPES)), globalVersion.get());
+    }
+
+    public long departmentVersion(UUID departmentId) {
+        return Math.max(departmentVersions.get(stripe(departmentId, DEPARTMENT_STRIPES)), globalVersion.get());
+    }
+
+    public CachedResponse get(Object target, long version) {
+        return responses.getIfPresent(new Key(target, version));
+    }
+
+    /**
+     * Serializes {@code body} and caches it, with {@code headers}, under {@code version}, which
+     * must have been read before the body's data was loaded.
+     */
+    public CachedResponse put(Object target, long version, Object body, HttpHeaders headers) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+        CachedResponse response = new CachedResponse(json, json.length >= compressMinSize ? gzip(json) : null,
+                headers);
+        responses.put(new Key(target, version), response);
+        return response;
+    }
+
+    /**
+     * Retires every entry; for writes that change what task responses embed, such as a department
+     * rename.
+     */
+    public void invalidateAll() {
+        globalVersion.accumulateAndGet(clock.incrementAndGet(), Math::max);
+        responses.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        taskVersions.accumulateAndGet(stripe(event.getTaskId(), TASK_STRIPES), clock.incrementAndGet(),
+                Math::max);
+        bumpDepartment(event.getDepartmentId());
+        bumpDepartment(event.getPreviousDepartmentId());
+    }
+
+    public Cache<Key, CachedResponse> getResponses() {
+        return responses;
+    }
+
+    /**
+     * Whether content negotiation would answer {@code accept} with JSON, the only encoding kept in
+     * the cache; requests for CBOR or Smile go through the message converters.
+     */
+    public static boolean prefersJson(String accept) {
+        return MediaType.APPLICATION_JSON.equals(TaskETag.representation(accept));
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    private void bumpDepartment(UUID departmentId) {
+        if (departmentId != null) {
+            departmentVersions.accumulateAndGet(stripe(departmentId, DEPARTMENT_STRIPES), clock.incrementAndGet(),
+                    Math::max);
+        }
+    }
+
+    private static int stripe(UUID id, int stripes) {
+        return Math.floorMod(id.hashCode(), stripes);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // A task id or a listing's request URL, and the version it was built at
+    public record Key(Object target, long version) {
+    }
+}
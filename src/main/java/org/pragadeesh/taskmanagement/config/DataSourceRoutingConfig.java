@@ -0,0 +1,65 @@
+package org.pragadeesh.taskmanagement.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.pragadeesh.taskmanagement.datasource.ReadWriteRoutingDataSource;
+import org.pragadeesh.taskmanagement.datasource.RecentWriters;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Primary/replica routing, active once {@code datasource.replica.jdbc-url} is set. The primary pool
+ * is configured exactly like Boot's own ({@code spring.datasource.*}); the replica pool takes
+ * Hikari's properties under {@code datasource.replica.*}.
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replica.jdbc-url:}'.isEmpty()")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public RecentWriters recentWriters(@Value("${datasource.routing.sticky-window:5s}") Duration window,
+                                       @Value("${datasource.routing.sticky-max-clients:100000}") long maxClients) {
+        return new RecentWriters(window, maxClients);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 RecentWriters recentWriters) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(recentWriters);
+        routing.setTargetDataSources(Map.of(
+                ReadWriteRoutingDataSource.Target.PRIMARY, primary,
+                ReadWriteRoutingDataSource.Target.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
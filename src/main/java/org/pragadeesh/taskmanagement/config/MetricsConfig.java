@@ -0,0 +1,68 @@
+package org.pragadeesh.taskmanagement.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.pragadeesh.taskmanagement.cache.TaskResponseCache;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.pragadeesh.taskmanagement.util.JwtUtil;
+import org.pragadeesh.taskmanagement.util.StatementCounter;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+
+    @Bean
+    public MeterBinder inProcessCacheMetrics(UserDirectory userDirectory, DepartmentDirectory departmentDirectory,
+                                             JwtUtil jwtUtil, TaskResponseCache taskResponseCache) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, userDirectory.getUsersById(), "users.byId");
+            CaffeineCacheMetrics.monitor(registry, userDirectory.getUsersByUsername(), "users.byUsername");
+            CaffeineCacheMetrics.monitor(registry, departmentDirectory.getDepartmentsById(), "departments.byId");
+            CaffeineCacheMetrics.monitor(registry, departmentDirectory.getAllDepartments(), "departments.all");
+            CaffeineCacheMetrics.monitor(registry, jwtUtil.getVerifiedTokens(), "jwt.verified");
+            CaffeineCacheMetrics.monitor(registry, taskResponseCache.getResponses(), "tasks.responses");
+            // The cache is bounded in bytes, which the Caffeine meters do not report
+            Gauge.builder("tasks.responses.cache.bytes", taskResponseCache.getResponses(),
+                            cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0))
+                                    .orElse(0L))
+                    .description("Bytes of serialized responses held by the task response cache")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    // hibernate-micrometer already counts hits and misses per region; the ratio saves every
+    // dashboard from deriving it
+    @Bean
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : statistics.getSecondLevelCacheRegionNames()) {
+                Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics,
+                                stats -> hitRatio(stats.getCacheRegionStatistics(region)))
+                        .tag("region", region)
+                        .description("Share of second-level cache lookups in the region that were hits")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics region) {
+        long lookups = region.getHitCount() + region.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) region.getHitCount() / lookups;
+    }
+}
@@ -0,0 +1,54 @@
+package org.pragadeesh.taskmanagement.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Compact binary encodings of every JSON response, chosen with {@code Accept: application/cbor} or
+ * {@code Accept: application/x-jackson-smile}. Spring already registers both converters, after the
+ * JSON one so clients that accept anything still get JSON, but with a plain ObjectMapper; here they
+ * get the application's Jackson configuration. UUIDs go out as 16-byte binary in both formats, and
+ * dates and times as numeric arrays instead of ISO strings.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    // Prototype bean with Spring Boot's Jackson customizations; one builder per mapper
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        ObjectMapper cborMapper = binaryMapper(new CBORFactory());
+        ObjectMapper smileMapper = binaryMapper(new SmileFactory());
+        converters.replaceAll(converter -> {
+            if (converter instanceof MappingJackson2CborHttpMessageConverter) {
+                return new MappingJackson2CborHttpMessageConverter(cborMapper);
+            }
+            if (converter instanceof MappingJackson2SmileHttpMessageConverter) {
+                return new MappingJackson2SmileHttpMessageConverter(smileMapper);
+            }
+            return converter;
+        });
+    }
+
+    private ObjectMapper binaryMapper(JsonFactory factory) {
+        return objectMapperBuilder.getObject()
+                .factory(factory)
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+}
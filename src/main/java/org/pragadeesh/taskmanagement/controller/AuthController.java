@@ -47,6 +47,11 @@ public class AuthController {
                     responseCode = "409",
                     description = "Username already exists",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Too many password checks in progress; retry after Retry-After seconds",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
     })
     @PostMapping("/register")
@@ -76,6 +81,11 @@ public class AuthController {
                     description = "Invalid credentials",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Too many password checks in progress; retry after Retry-After seconds",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Internal server error",
@@ -1,6 +1,7 @@
 package org.pragadeesh.taskmanagement.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,13 +10,18 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.pragadeesh.taskmanagement.Exception.ErrorResponse;
-import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.dto.DepartmentCreateDto;
+import org.pragadeesh.taskmanagement.dto.DepartmentResponseDto;
+import org.pragadeesh.taskmanagement.mapper.DepartmentMapper;
 import org.pragadeesh.taskmanagement.service.DepartmentService;
+import org.pragadeesh.taskmanagement.service.DepartmentSnapshot;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/departments")
@@ -25,42 +31,64 @@ import java.util.UUID;
 public class DepartmentController {
 
     private final DepartmentService departmentService;
+    private final DepartmentMapper departmentMapper;
 
     @Operation(summary = "Create new department")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Department created successfully",
-                    content = @Content(schema = @Schema(implementation = Department.class))),
+                    content = @Content(schema = @Schema(implementation = DepartmentResponseDto.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping
-    public ResponseEntity<Department> createDepartment(@RequestBody Department department) {
-        return ResponseEntity.ok(departmentService.createDepartment(department));
+    public ResponseEntity<DepartmentResponseDto> createDepartment(@RequestBody DepartmentCreateDto department) {
+        return ResponseEntity.ok(departmentMapper.toDto(departmentService.createDepartment(department)));
     }
 
-    @Operation(summary = "Get all departments")
+    @Operation(summary = "Get all departments",
+            description = "Lists departments ordered by name. With counts=true every entry also carries its number " +
+                    "of users and tasks, at the cost of one grouped query.")
     @ApiResponse(responseCode = "200", description = "List of all departments retrieved")
     @GetMapping
-    public ResponseEntity<List<Department>> getAllDepartments() {
-        return ResponseEntity.ok(departmentService.getAllDepartment());
+    public ResponseEntity<List<DepartmentResponseDto>> getAllDepartments(
+            @Parameter(description = "Include user and task counts")
+            @RequestParam(defaultValue = "false") boolean counts) {
+        List<DepartmentSnapshot> departments = departmentService.getAllDepartment();
+        if (!counts) {
+            return ResponseEntity.ok(departments.stream()
+                    .map(departmentMapper::toDto)
+                    .collect(Collectors.toList()));
+        }
+
+        Map<UUID, Long> userCounts = departmentService.countUsersByDepartment();
+        return ResponseEntity.ok(departments.stream()
+                .map(department -> withCounts(department, userCounts.getOrDefault(department.id(), 0L)))
+                .collect(Collectors.toList()));
     }
 
     @Operation(summary = "Get department by ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Department found"),
-            @ApiResponse(responseCode = "404", description = "Department not found")
+            @ApiResponse(responseCode = "404", description = "Department not found",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Department> getDepartmentById(@PathVariable UUID id) {
-        return ResponseEntity.ok(departmentService.getDepartmentById(id));
+    public ResponseEntity<DepartmentResponseDto> getDepartmentById(
+            @PathVariable UUID id,
+            @Parameter(description = "Include user and task counts")
+            @RequestParam(defaultValue = "false") boolean counts) {
+        DepartmentSnapshot department = departmentService.getDepartmentById(id);
+        return ResponseEntity.ok(counts
+                ? withCounts(department, departmentService.countUsers(id))
+                : departmentMapper.toDto(department));
     }
 
     @Operation(summary = "Update department")
     @PutMapping("/{id}")
-    public ResponseEntity<Department> updateDepartment(
+    public ResponseEntity<DepartmentResponseDto> updateDepartment(
             @PathVariable UUID id,
-            @RequestBody Department department) {
-        return ResponseEntity.ok(departmentService.updateDepartment(id, department));
+            @RequestBody DepartmentCreateDto department) {
+        return ResponseEntity.ok(departmentMapper.toDto(departmentService.updateDepartment(id, department)));
     }
 
     @Operation(summary = "Delete department")
@@ -69,4 +97,11 @@ public class DepartmentController {
         departmentService.deleteDepartment(id);
         return ResponseEntity.noContent().build();
     }
+
+    private DepartmentResponseDto withCounts(DepartmentSnapshot department, long userCount) {
+        DepartmentResponseDto dto = departmentMapper.toDto(department);
+        dto.setUserCount(userCount);
+        dto.setTaskCount(departmentService.countTasks(department.id()));
+        return dto;
+    }
 }
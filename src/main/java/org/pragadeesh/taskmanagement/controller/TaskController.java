@@ -2,24 +2,60 @@ package org.pragadeesh.taskmanagement.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 
 import org.pragadeesh.taskmanagement.Exception.ErrorResponse;
+import org.pragadeesh.taskmanagement.audit.TaskAuditService;
+import org.pragadeesh.taskmanagement.cache.CachedResponse;
+import org.pragadeesh.taskmanagement.cache.TaskResponseCache;
+import org.pragadeesh.taskmanagement.datasource.ReadWriteRoutingDataSource;
+import org.pragadeesh.taskmanagement.dto.DepartmentTaskSummaryDto;
+import org.pragadeesh.taskmanagement.dto.NormalizedTaskPageDto;
+import org.pragadeesh.taskmanagement.dto.TaskBatchResponseDto;
+import org.pragadeesh.taskmanagement.dto.TaskChangesDto;
 import org.pragadeesh.taskmanagement.dto.TaskCreateDto;
+import org.pragadeesh.taskmanagement.dto.TaskFilterDto;
+import org.pragadeesh.taskmanagement.dto.TaskHistoryPageDto;
+import org.pragadeesh.taskmanagement.dto.TaskPageDto;
 import org.pragadeesh.taskmanagement.dto.TaskResponseDto;
+import org.pragadeesh.taskmanagement.dto.TaskStatusUpdateDto;
+import org.pragadeesh.taskmanagement.dto.TaskStatusUpdateResponseDto;
+import org.pragadeesh.taskmanagement.mapper.TaskAuditMapper;
 import org.pragadeesh.taskmanagement.mapper.TaskMapper;
 import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskAudit;
+import org.pragadeesh.taskmanagement.search.TaskSearchService;
+import org.pragadeesh.taskmanagement.stream.TaskEventStream;
+import org.pragadeesh.taskmanagement.sync.TaskChanges;
+import org.pragadeesh.taskmanagement.sync.TaskChangesService;
 import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.summary.TaskSummaryService;
+import org.pragadeesh.taskmanagement.util.TaskChangeCursor;
+import org.pragadeesh.taskmanagement.util.TaskCursor;
+import org.pragadeesh.taskmanagement.util.TaskETag;
+import org.pragadeesh.taskmanagement.util.TaskExportFormat;
+import org.pragadeesh.taskmanagement.util.TaskExportWriter;
+import org.pragadeesh.taskmanagement.util.TaskListShape;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.time.Duration;
 import java.util.HashSet;
 import java.util.List;
 import java.util.UUID;
@@ -33,32 +69,314 @@ import java.util.stream.Collectors;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskSearchService taskSearchService;
+    private final TaskSummaryService taskSummaryService;
+    private final TaskAuditService taskAuditService;
+    private final TaskAuditMapper taskAuditMapper;
+    private final TaskEventStream taskEventStream;
+    private final TaskChangesService taskChangesService;
     private final TaskMapper taskMapper;
+    private final TaskResponseCache taskResponseCache;
+    private final ObjectMapper objectMapper;
+
+    @Value("${tasks.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${tasks.page.max-size:200}")
+    private int maxPageSize;
+
+    @Value("${tasks.stream.timeout:30m}")
+    private Duration streamTimeout;
+
+    @Operation(
+            summary = "Retrieve tasks page by page",
+            description = "Gets one page of tasks ordered by creation time. Pass the returned nextCursor " +
+                    "(or follow the next link) to fetch the following page. Page size is capped server side. " +
+                    "shape=normalized lists each department and user once and refers to them by index. Send " +
+                    "Accept: application/cbor or application/x-jackson-smile for a binary encoding."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved a page of tasks",
+                    content = @Content(schema = @Schema(oneOf = {TaskPageDto.class, NormalizedTaskPageDto.class}))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<?> getAllTask(
+            @Parameter(description = "Continuation token returned by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of tasks per page")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "full or normalized")
+            @RequestParam(defaultValue = "full") String shape) {
+        int pageSize = resolvePageSize(size);
+        TaskListShape listShape = TaskListShape.from(shape);
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        return toPage(taskService.getTaskPage(after, pageSize + 1), pageSize, listShape);
+    }
+
+    @Operation(
+            summary = "Filter tasks",
+            description = "Gets one page of tasks matching every given filter, ordered by creation time. Filters are " +
+                    "optional and combinable; paging, shape and encodings work like GET /tasks."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved a page of matching tasks",
+                    content = @Content(schema = @Schema(oneOf = {TaskPageDto.class, NormalizedTaskPageDto.class}))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid filter, cursor or page size",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterTasks(
+            @ParameterObject TaskFilterDto filter,
+            @Parameter(description = "Continuation token returned by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of tasks per page")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "full or normalized")
+            @RequestParam(defaultValue = "full") String shape,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        int pageSize = resolvePageSize(size);
+        TaskListShape listShape = TaskListShape.from(shape);
+        TaskCursor after = cursor == null || cursor.isBlank() ? null : TaskCursor.decode(cursor);
+
+        if (filter.getDepartmentId() == null || !TaskResponseCache.prefersJson(accept)) {
+            return toPage(taskService.filterTasks(filter, after, pageSize + 1), pageSize, listShape);
+        }
+        // Department listings are answered from the response cache until a task of the department changes
+        String url = ServletUriComponentsBuilder.fromCurrentRequest().toUriString();
+        long version = taskResponseCache.departmentVersion(filter.getDepartmentId());
+        CachedResponse cached = taskResponseCache.get(url, version);
+        if (cached == null) {
+            ResponseEntity<?> page = toPage(ReadWriteRoutingDataSource.onPrimary(
+                    () -> taskService.filterTasks(filter, after, pageSize + 1)), pageSize, listShape);
+            cached = taskResponseCache.put(url, version, page.getBody(), page.getHeaders());
+        }
+        return cached.toResponse(TaskResponseCache.acceptsGzip(acceptEncoding));
+    }
 
     @Operation(
-            summary = "Retrieve all tasks",
-            description = "Gets a list of all tasks for the authenticated user. Returns an empty list if no tasks exist."
+            summary = "Search tasks",
+            description = "Full-text search over task titles and descriptions. Every word must match; the last " +
+                    "word also matches as a prefix. Results are ranked by relevance, title matches first."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Matching tasks, best match first"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Blank query or invalid size",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskResponseDto>> searchTasks(
+            @Parameter(description = "Search words", required = true)
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of results")
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(taskSearchService.search(q, resolvePageSize(size))
+                .stream()
+                .map(taskMapper::toDto)
+                .collect(Collectors.toList()));
+    }
+
+    @Operation(
+            summary = "Task summary",
+            description = "Number of tasks per department and status. Served from counters maintained on every " +
+                    "task write and reconciled against the database periodically, so it is cheap to poll."
     )
     @ApiResponse(
             responseCode = "200",
-            description = "Successfully retrieved all tasks",
-            content = @Content(
-                    array = @ArraySchema(schema = @Schema(implementation = Task.class)),
-                    mediaType = "application/json"
+            description = "One entry per department, ordered by name"
+    )
+    @GetMapping("/summary")
+    public ResponseEntity<List<DepartmentTaskSummaryDto>> getSummary() {
+        return ResponseEntity.ok(taskSummaryService.getSummary());
+    }
+
+    // Expects up to pageSize + 1 tasks; the extra one only signals that a next page exists
+    private ResponseEntity<?> toPage(List<Task> tasks, int pageSize, TaskListShape shape) {
+        boolean hasNext = tasks.size() > pageSize;
+        if (hasNext) {
+            tasks = tasks.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        String next = null;
+        if (hasNext) {
+            nextCursor = TaskCursor.of(tasks.get(tasks.size() - 1)).encode();
+            next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", nextCursor)
+                    .replaceQueryParam("size", pageSize)
+                    .toUriString();
+        }
+
+        Object body;
+        if (shape == TaskListShape.NORMALIZED) {
+            NormalizedTaskPageDto page = taskMapper.toNormalizedPage(tasks);
+            page.setNextCursor(nextCursor);
+            page.setNext(next);
+            body = page;
+        } else {
+            TaskPageDto page = new TaskPageDto();
+            page.setContent(tasks.stream()
+                    .map(taskMapper::toDto)
+                    .collect(Collectors.toList()));
+            page.setSize(tasks.size());
+            page.setNextCursor(nextCursor);
+            page.setNext(next);
+            body = page;
+        }
+
+        if (!hasNext) {
+            return ResponseEntity.ok(body);
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Export all tasks",
+            description = "Streams every task, oldest first, as NDJSON (one task per line, same shape as the other " +
+                    "endpoints) or CSV. Rows are written as they are read, so the export size is not limited by memory."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Export stream"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unsupported export format",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             )
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "ndjson or csv")
+            @RequestParam(defaultValue = "ndjson") String format) {
+        TaskExportFormat exportFormat = TaskExportFormat.from(format);
+
+        // Runs on an async request thread after this method returns; the service opens its own read-only transaction
+        StreamingResponseBody body = outputStream -> {
+            try (TaskExportWriter writer = exportFormat.open(outputStream, objectMapper, taskMapper)) {
+                taskService.exportTasks(writer::write);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @Operation(
+            summary = "Stream task changes",
+            description = "Server-Sent Events stream of committed changes: task.created, task.updated, task.completed " +
+                    "and task.deleted, each carrying the task id, status, department and assignees. Optionally " +
+                    "filtered by department and/or assignee; a change that moves a task out of the filter is still " +
+                    "sent. Clients that fall behind are disconnected and should reconnect and re-read."
     )
-    @GetMapping
-    public ResponseEntity<List<TaskResponseDto>> getAllTask() {
-        List<TaskResponseDto> tasks = taskService.getAllTask()
-                .stream()
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Event stream"
+            ),
+            @ApiResponse(
+                    responseCode = "503",
+                    description = "Too many open streams on this node",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTasks(
+            @Parameter(description = "Only changes to tasks in this department")
+            @RequestParam(required = false) UUID departmentId,
+            @Parameter(description = "Only changes to tasks assigned to this user")
+            @RequestParam(required = false) UUID assigneeId) {
+        return taskEventStream.subscribe(new SseEmitter(streamTimeout.toMillis()), departmentId, assigneeId);
+    }
+
+    @Operation(
+            summary = "Task changes since a cursor",
+            description = "Delta sync: tasks created or changed after the cursor, in their current state, plus " +
+                    "tombstones of tasks deleted since. Omit since for a full download. Changes are ordered by a " +
+                    "commit-ordered sequence rather than timestamps, so no change is skipped. Keep calling with " +
+                    "nextCursor while hasMore is true, then store it for the next sync."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Changes after the cursor",
+                    content = @Content(schema = @Schema(implementation = TaskChangesDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesDto> getChanges(
+            @Parameter(description = "nextCursor of the previous sync; omit to start from the beginning")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "Maximum number of changes per page")
+            @RequestParam(required = false) Integer size) {
+        int pageSize = resolvePageSize(size);
+        TaskChangeCursor after = since == null || since.isBlank() ? TaskChangeCursor.START : TaskChangeCursor.decode(since);
+
+        TaskChanges changes = taskChangesService.getChanges(after, pageSize);
+        TaskChangesDto dto = new TaskChangesDto();
+        dto.setChanged(changes.getChanged().stream()
+                .map(taskMapper::toDto)
+                .collect(Collectors.toList()));
+        dto.setDeleted(changes.getDeleted().stream()
                 .map(taskMapper::toDto)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(tasks);
+                .collect(Collectors.toList()));
+        dto.setNextCursor(changes.getNext().encode());
+        dto.setHasMore(changes.isHasMore());
+
+        if (!changes.isHasMore()) {
+            return ResponseEntity.ok(dto);
+        }
+
+        String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("since", dto.getNextCursor())
+                .replaceQueryParam("size", pageSize)
+                .toUriString();
+        dto.setNext(next);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                .body(dto);
     }
 
     @Operation(
             summary = "Get task by ID",
-            description = "Retrieves a specific task using its UUID. Returns 404 if task is not found."
+            description = "Retrieves a specific task using its UUID. Returns 404 if task is not found. The response " +
+                    "carries an ETag per encoding; send it back in If-None-Match to get a 304 while the task is " +
+                    "unchanged. Renaming the task's department or assignees does not change the ETag."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -66,6 +384,10 @@ public class TaskController {
                     description = "Task found successfully",
                     content = @Content(schema = @Schema(implementation = Task.class))
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Task unchanged since the ETag in If-None-Match"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Task not found",
@@ -73,9 +395,105 @@ public class TaskController {
             )
     })
     @GetMapping("/{id}")
-    public ResponseEntity<TaskResponseDto> getTaskById(@Parameter(description = "UUID of the task", required = true) @PathVariable UUID id) {
-        Task task = taskService.getTaskById(id);
-        return ResponseEntity.ok(taskMapper.toDto(task));
+    public ResponseEntity<?> getTaskById(
+            @Parameter(description = "UUID of the task", required = true) @PathVariable UUID id,
+            @Parameter(description = "ETag of the client's copy; answered with 304 if still current")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            ServletWebRequest request) {
+        MediaType representation = TaskETag.representation(accept);
+        boolean cacheable = MediaType.APPLICATION_JSON.equals(representation);
+        long version = taskResponseCache.taskVersion(id);
+        CachedResponse cached = cacheable ? taskResponseCache.get(id, version) : null;
+        if (cached != null) {
+            // Written as stored; the cached ETag answers If-None-Match without a query
+            return cached.toResponse(TaskResponseCache.acceptsGzip(acceptEncoding));
+        }
+        // Conditional polls only read the version; the task is loaded and serialized only when it changed
+        if (ifNoneMatch != null
+                && request.checkNotModified(TaskETag.of(taskService.getTaskVersion(id), representation))) {
+            request.getResponse().addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            return null;
+        }
+        if (!cacheable) {
+            return withETag(taskService.getTaskById(id), accept);
+        }
+        ResponseEntity<TaskResponseDto> response =
+                withETag(ReadWriteRoutingDataSource.onPrimary(() -> taskService.getTaskById(id)), accept);
+        return taskResponseCache.put(id, version, response.getBody(), response.getHeaders())
+                .toResponse(TaskResponseCache.acceptsGzip(acceptEncoding));
+    }
+
+    @Operation(
+            summary = "Task history",
+            description = "Gets one page of the audit trail of a task, newest change first: who changed it, when, " +
+                    "and its status and department before and after. Changes are recorded asynchronously and can " +
+                    "take a moment to appear. Paging works like GET /tasks via nextCursor or the next link."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved a page of the task's history",
+                    content = @Content(schema = @Schema(implementation = TaskHistoryPageDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor or page size",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Task not found and never had any history",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @GetMapping("/{id}/history")
+    public ResponseEntity<TaskHistoryPageDto> getTaskHistory(
+            @Parameter(description = "UUID of the task", required = true) @PathVariable UUID id,
+            @Parameter(description = "Continuation token returned by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of changes per page")
+            @RequestParam(required = false) Integer size) {
+        int pageSize = resolvePageSize(size);
+        UUID before = cursor == null || cursor.isBlank() ? null : decodeHistoryCursor(cursor);
+
+        List<TaskAudit> history = taskAuditService.getHistory(id, before, pageSize + 1);
+        boolean hasNext = history.size() > pageSize;
+        if (hasNext) {
+            history = history.subList(0, pageSize);
+        }
+
+        TaskHistoryPageDto page = new TaskHistoryPageDto();
+        page.setContent(history.stream()
+                .map(taskAuditMapper::toDto)
+                .collect(Collectors.toList()));
+        page.setSize(history.size());
+
+        if (!hasNext) {
+            return ResponseEntity.ok(page);
+        }
+
+        // Audit ids are time ordered, so the oldest change on this page is the whole cursor
+        String nextCursor = history.get(history.size() - 1).getId().toString();
+        String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", nextCursor)
+                .replaceQueryParam("size", pageSize)
+                .toUriString();
+        page.setNextCursor(nextCursor);
+        page.setNext(next);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"")
+                .body(page);
+    }
+
+    private static UUID decodeHistoryCursor(String cursor) {
+        try {
+            return UUID.fromString(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
     }
 
     @Operation(
@@ -100,6 +518,51 @@ public class TaskController {
         return ResponseEntity.ok(taskMapper.toDto(task));
     }
 
+    @Operation(
+            summary = "Create tasks in bulk",
+            description = "Creates many tasks in one request. Departments and assignees are validated for the whole " +
+                    "batch up front; invalid items are reported per index and do not abort the valid ones."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch processed, see per-item results",
+                    content = @Content(schema = @Schema(implementation = TaskBatchResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Batch exceeds the maximum size",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<TaskBatchResponseDto> createTasks(@RequestBody List<TaskCreateDto> taskCreateDtos) {
+        return ResponseEntity.ok(taskService.createTasks(taskCreateDtos));
+    }
+
+    @Operation(
+            summary = "Change the status of many tasks",
+            description = "Moves the tasks given by ids, or matching a filter, to one status using set-based updates. " +
+                    "Completed tasks keep their status. With ids, the response lists which tasks changed, which " +
+                    "already had the status, which were already completed and which do not exist."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Status change applied, see the per-id outcome",
+                    content = @Content(schema = @Schema(implementation = TaskStatusUpdateResponseDto.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing status, both or neither of ids and filter, or too many ids",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PatchMapping("/status")
+    public ResponseEntity<TaskStatusUpdateResponseDto> updateStatuses(@RequestBody TaskStatusUpdateDto request) {
+        return ResponseEntity.ok(taskService.updateStatuses(request));
+    }
+
     @Operation(
             summary = "Update an existing task",
             description = "Updates a task with the provided details. All fields can be updated except the ID."
@@ -110,6 +573,11 @@ public class TaskController {
                     description = "Task updated successfully",
                     content = @Content(schema = @Schema(implementation = Task.class))
             ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Task changed since the ETag in If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Task not found",
@@ -126,9 +594,11 @@ public class TaskController {
             @Parameter(description = "UUID of the task to update", required = true)
             @PathVariable UUID id,
             @Parameter(description = "Updated task details", required = true)
-            @RequestBody TaskCreateDto taskCreateDto) {
-        Task updatedTask = taskService.updateTask(id, taskCreateDto);
-        return ResponseEntity.ok(taskMapper.toDto(updatedTask));
+            @RequestBody TaskCreateDto taskCreateDto,
+            @Parameter(description = "Only update if the task still has this ETag")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return withETag(taskService.updateTask(id, taskCreateDto, TaskETag.expectedVersion(ifMatch)), accept);
     }
 
     @Operation(
@@ -163,6 +633,11 @@ public class TaskController {
                     description = "Task marked as completed successfully",
                     content = @Content(schema = @Schema(implementation = Task.class))
             ),
+            @ApiResponse(
+                    responseCode = "412",
+                    description = "Task changed since the ETag in If-Match",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Task not found",
@@ -176,36 +651,60 @@ public class TaskController {
     })
     @PatchMapping("/{id}/complete")
     public ResponseEntity<TaskResponseDto> markTaskAsCompleted(
-            @Parameter(description = "UUID of the task to mark as completed", required = true) @PathVariable UUID id) {
-        Task completedTask = taskService.markTaskAsCompleted(id);
-        return ResponseEntity.ok(taskMapper.toDto(completedTask));
+            @Parameter(description = "UUID of the task to mark as completed", required = true) @PathVariable UUID id,
+            @Parameter(description = "Only update if the task still has this ETag")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return withETag(taskService.markTaskAsCompleted(id, TaskETag.expectedVersion(ifMatch)), accept);
     }
 
     @Operation(summary = "Assign users to task")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Users assigned successfully"),
-            @ApiResponse(responseCode = "404", description = "Task or users not found")
+            @ApiResponse(responseCode = "404", description = "Task or users not found"),
+            @ApiResponse(responseCode = "412", description = "Task changed since the ETag in If-Match")
     })
     @PostMapping("/{taskId}/assign-users")
     public ResponseEntity<TaskResponseDto> assignUsersToTask(
             @PathVariable UUID taskId,
-            @RequestBody List<UUID> userIds) {
-        Task updatedTask = taskService.assignUsersToTask(taskId, new HashSet<>(userIds));
-        return ResponseEntity.ok(taskMapper.toDto(updatedTask));
+            @RequestBody List<UUID> userIds,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return withETag(taskService.assignUsersToTask(taskId, new HashSet<>(userIds), TaskETag.expectedVersion(ifMatch)),
+                accept);
     }
 
     @Operation(summary = "Assign department to task")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Department assigned successfully"),
-            @ApiResponse(responseCode = "404", description = "Task or department not found")
+            @ApiResponse(responseCode = "404", description = "Task or department not found"),
+            @ApiResponse(responseCode = "412", description = "Task changed since the ETag in If-Match")
     })
     @PostMapping("/{taskId}/assign-department")
     public ResponseEntity<TaskResponseDto> assignDepartmentToTask(
             @PathVariable UUID taskId,
-            @RequestBody UUID departmentId) {
-        Task updatedTask = taskService.assignDepartmentToTask(taskId, departmentId);
-        return ResponseEntity.ok(taskMapper.toDto(updatedTask));
+            @RequestBody UUID departmentId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(hidden = true) @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return withETag(taskService.assignDepartmentToTask(taskId, departmentId, TaskETag.expectedVersion(ifMatch)),
+                accept);
+    }
+
+    // The tag names the encoding the body is negotiated into, so caches must key on Accept too
+    private ResponseEntity<TaskResponseDto> withETag(Task task, String accept) {
+        return ResponseEntity.ok()
+                .eTag(TaskETag.of(task.getVersion(), TaskETag.representation(accept)))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(taskMapper.toDto(task));
     }
 
-    
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        return Math.min(size, maxPageSize);
+    }
 }
@@ -0,0 +1,77 @@
+package org.pragadeesh.taskmanagement.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary. Must sit behind
+ * a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the transaction's
+ * read-only flag is only known once it has begun, after Hibernate asked for its connection.
+ * <p>
+ * Reads still go to the primary for a client that wrote recently (see {@link RecentWriters}) and
+ * inside {@link #onPrimary}, for callers that cache or reconcile what they read and would keep a
+ * lagging replica's view around for much longer than the lag itself.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final RecentWriters recentWriters;
+
+    public ReadWriteRoutingDataSource(RecentWriters recentWriters) {
+        this.recentWriters = recentWriters;
+    }
+
+    /**
+     * Runs {@code work} with every connection it opens taken from the primary. A transaction that
+     * already holds a connection keeps it.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean previous = FORCE_PRIMARY.get();
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                FORCE_PRIMARY.remove();
+            } else {
+                FORCE_PRIMARY.set(previous);
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            rememberWriterOnCommit();
+            return Target.PRIMARY;
+        }
+        if (FORCE_PRIMARY.get() != null) {
+            return Target.PRIMARY;
+        }
+        String client = RecentWriters.currentClient();
+        return client != null && recentWriters.wroteRecently(client) ? Target.PRIMARY : Target.REPLICA;
+    }
+
+    private void rememberWriterOnCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String client = RecentWriters.currentClient();
+        if (client == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.recordWrite(client);
+            }
+        });
+    }
+}
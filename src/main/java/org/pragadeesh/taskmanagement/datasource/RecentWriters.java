@@ -0,0 +1,53 @@
+package org.pragadeesh.taskmanagement.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * Clients that committed a write within the last {@code window}. Their reads stay on the primary
+ * until the window has passed, so nobody reads from a replica that has not caught up with their
+ * own write yet. Authenticated clients are tracked by username, anonymous ones (only the auth
+ * endpoints) by remote address.
+ */
+public class RecentWriters {
+
+    private final Cache<String, Boolean> writers;
+
+    public RecentWriters(Duration window, long maxSize) {
+        this.writers = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void recordWrite(String client) {
+        writers.put(client, Boolean.TRUE);
+    }
+
+    public boolean wroteRecently(String client) {
+        return writers.getIfPresent(client) != null;
+    }
+
+    /**
+     * The client the current thread works for, or {@code null} outside of a request (startup,
+     * scheduled jobs).
+     */
+    public static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return "addr:" + attributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
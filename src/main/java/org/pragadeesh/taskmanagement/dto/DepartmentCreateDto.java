@@ -0,0 +1,10 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import lombok.Data;
+
+@Data
+public class DepartmentCreateDto {
+
+    private String name;
+    private String description;
+}
@@ -0,0 +1,25 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+
+@Data
+public class DepartmentResponseDto {
+
+    private UUID id;
+    private String name;
+    private String description;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Only filled in when counts are requested
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long userCount;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long taskCount;
+}
@@ -0,0 +1,16 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Data;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+
+@Data
+public class DepartmentTaskSummaryDto {
+
+    private UUID departmentId;
+    private String departmentName;
+    private Map<TaskStatus, Long> countsByStatus;
+    private long total;
+}
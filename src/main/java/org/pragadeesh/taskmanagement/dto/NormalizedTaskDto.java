@@ -0,0 +1,29 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+
+import lombok.Data;
+
+/**
+ * {@link TaskResponseDto} with the department and assignees replaced by indexes into the
+ * {@code departments} and {@code users} lists of the enclosing {@link NormalizedTaskPageDto}.
+ */
+@Data
+public class NormalizedTaskDto {
+
+    private UUID id;
+    private String title;
+    private String description;
+    private LocalDate dueDate;
+    private TaskStatus status;
+    private Integer department;
+    private List<Integer> assignedUsers;
+    private LocalDateTime createdAt;
+    private LocalDateTime upDatedAt;
+    private Long version;
+}
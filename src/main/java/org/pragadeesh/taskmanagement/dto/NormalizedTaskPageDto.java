@@ -0,0 +1,17 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class NormalizedTaskPageDto {
+
+    // Each department and user of the page once, referenced by index from content
+    private List<DepartmentDto> departments;
+    private List<UserDto> users;
+    private List<NormalizedTaskDto> content;
+    private int size;
+    private String nextCursor;
+    private String next;
+}
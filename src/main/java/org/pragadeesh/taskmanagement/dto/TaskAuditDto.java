@@ -0,0 +1,23 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.pragadeesh.taskmanagement.model.TaskAudit;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+
+import lombok.Data;
+
+@Data
+public class TaskAuditDto {
+
+    private UUID id;
+    private TaskAudit.ChangeType changeType;
+    private String actor;
+    private LocalDateTime changedAt;
+    private String title;
+    private TaskStatus status;
+    private TaskStatus previousStatus;
+    private UUID departmentId;
+    private UUID previousDepartmentId;
+}
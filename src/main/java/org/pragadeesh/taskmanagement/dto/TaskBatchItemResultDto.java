@@ -0,0 +1,18 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBatchItemResultDto {
+
+    private int index;
+    private UUID id;
+    private boolean created;
+    private String error;
+}
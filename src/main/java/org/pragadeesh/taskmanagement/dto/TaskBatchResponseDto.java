@@ -0,0 +1,13 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class TaskBatchResponseDto {
+
+    private int created;
+    private int failed;
+    private List<TaskBatchItemResultDto> results;
+}
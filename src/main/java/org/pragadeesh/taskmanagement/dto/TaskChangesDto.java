@@ -0,0 +1,16 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class TaskChangesDto {
+
+    private List<TaskResponseDto> changed;
+    private List<TaskTombstoneDto> deleted;
+    // Always set, also when nothing changed: pass it as since on the next sync
+    private String nextCursor;
+    private boolean hasMore;
+    private String next;
+}
@@ -0,0 +1,34 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.Data;
+
+/**
+ * Optional, combinable task filters; unset fields do not restrict the result. Due dates are
+ * inclusive on both ends, creation times include {@code createdFrom} and exclude {@code createdTo}.
+ */
+@Data
+public class TaskFilterDto {
+
+    private TaskStatus status;
+    private UUID departmentId;
+    private UUID assigneeId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate dueTo;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+}
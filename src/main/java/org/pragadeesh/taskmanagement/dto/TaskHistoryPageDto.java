@@ -0,0 +1,14 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class TaskHistoryPageDto {
+
+    private List<TaskAuditDto> content;
+    private int size;
+    private String nextCursor;
+    private String next;
+}
@@ -0,0 +1,14 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.util.List;
+
+import lombok.Data;
+
+@Data
+public class TaskPageDto {
+
+    private List<TaskResponseDto> content;
+    private int size;
+    private String nextCursor;
+    private String next;
+}
@@ -21,5 +21,6 @@ public class TaskResponseDto {
     private Set<UserDto> assignedUsers;
     private LocalDateTime createdAt;
     private LocalDateTime upDatedAt;
+    private Long version;
 
 }
@@ -0,0 +1,19 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+
+import lombok.Data;
+
+/**
+ * Target status for many tasks at once, selected either by {@code ids} or by {@code filter}.
+ */
+@Data
+public class TaskStatusUpdateDto {
+
+    private TaskStatus status;
+    private List<UUID> ids;
+    private TaskFilterDto filter;
+}
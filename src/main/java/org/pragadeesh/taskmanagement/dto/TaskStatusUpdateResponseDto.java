@@ -0,0 +1,27 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+
+import lombok.Data;
+
+/**
+ * Outcome of a bulk status change. Filter requests only select tasks that can change, so they
+ * report updated ids only; {@code hasMore} means the limit was reached and the request can be repeated.
+ */
+@Data
+public class TaskStatusUpdateResponseDto {
+
+    private TaskStatus status;
+    private int updated;
+    private List<UUID> updatedIds = new ArrayList<>();
+    // Already in the target status
+    private List<UUID> unchangedIds = new ArrayList<>();
+    // Completed tasks keep their status
+    private List<UUID> alreadyCompletedIds = new ArrayList<>();
+    private List<UUID> notFoundIds = new ArrayList<>();
+    private boolean hasMore;
+}
@@ -0,0 +1,26 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.util.Set;
+import java.util.UUID;
+
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.Data;
+
+@Data
+public class TaskStreamEventDto {
+
+    private UUID taskId;
+
+    // Absent for bulk status changes, which never load the task
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String title;
+
+    private TaskStatus status;
+    private TaskStatus previousStatus;
+    private UUID departmentId;
+    private UUID previousDepartmentId;
+    private Set<UUID> assigneeIds;
+}
@@ -0,0 +1,13 @@
+package org.pragadeesh.taskmanagement.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.Data;
+
+@Data
+public class TaskTombstoneDto {
+
+    private UUID taskId;
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,104 @@
+package org.pragadeesh.taskmanagement.event;
+
+import lombok.Getter;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.pragadeesh.taskmanagement.model.User;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Published by {@link org.pragadeesh.taskmanagement.service.TaskService} for every task write. It
+ * carries a snapshot of the task as written, so listeners running after commit never touch the
+ * (by then closed) persistence context. Updates also carry the status and department the task had
+ * before, so aggregates can move a task from one bucket to another without reloading it. The same
+ * goes for assignees, so a listener filtering by assignee also sees a task leave that assignee.
+ * Status-only changes from bulk updates never load the task and carry no title or description.
+ */
+@Getter
+public class TaskChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final UUID taskId;
+    private final String title;
+    private final String description;
+    private final TaskStatus status;
+    private final UUID departmentId;
+    // Null for CREATED; for DELETED the same as status and departmentId
+    private final TaskStatus previousStatus;
+    private final UUID previousDepartmentId;
+    // previousAssigneeIds is empty for CREATED; for DELETED both are the same
+    private final Set<UUID> assigneeIds;
+    private final Set<UUID> previousAssigneeIds;
+
+    private TaskChangedEvent(Type type, Task task, TaskStatus previousStatus, UUID previousDepartmentId,
+                             Set<UUID> previousAssigneeIds) {
+        this(type, task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), departmentIdOf(task),
+                previousStatus, previousDepartmentId, assigneeIdsOf(task), previousAssigneeIds);
+    }
+
+    private TaskChangedEvent(Type type, UUID taskId, String title, String description, TaskStatus status,
+                             UUID departmentId, TaskStatus previousStatus, UUID previousDepartmentId,
+                             Set<UUID> assigneeIds, Set<UUID> previousAssigneeIds) {
+        this.type = type;
+        this.taskId = taskId;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.departmentId = departmentId;
+        this.previousStatus = previousStatus;
+        this.previousDepartmentId = previousDepartmentId;
+        this.assigneeIds = assigneeIds;
+        this.previousAssigneeIds = previousAssigneeIds;
+    }
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(Type.CREATED, task, null, null, Set.of());
+    }
+
+    public static TaskChangedEvent updated(Task task, TaskStatus previousStatus, UUID previousDepartmentId) {
+        return updated(task, previousStatus, previousDepartmentId, assigneeIdsOf(task));
+    }
+
+    public static TaskChangedEvent updated(Task task, TaskStatus previousStatus, UUID previousDepartmentId,
+                                           Set<UUID> previousAssigneeIds) {
+        return new TaskChangedEvent(Type.UPDATED, task, previousStatus, previousDepartmentId, previousAssigneeIds);
+    }
+
+    public static TaskChangedEvent statusChanged(UUID taskId, UUID departmentId, Set<UUID> assigneeIds,
+                                                 TaskStatus previousStatus, TaskStatus status) {
+        return new TaskChangedEvent(Type.UPDATED, taskId, null, null, status, departmentId, previousStatus, departmentId,
+                assigneeIds, assigneeIds);
+    }
+
+    public static TaskChangedEvent deleted(Task task) {
+        Set<UUID> assigneeIds = assigneeIdsOf(task);
+        return new TaskChangedEvent(Type.DELETED, task.getId(), task.getTitle(), task.getDescription(), task.getStatus(),
+                departmentIdOf(task), task.getStatus(), departmentIdOf(task), assigneeIds, assigneeIds);
+    }
+
+    // Title is mandatory, so only status-only changes lack it
+    public boolean hasText() {
+        return title != null;
+    }
+
+    // Every service path has the assignees loaded already (detail graph or just assigned)
+    public static Set<UUID> assigneeIdsOf(Task task) {
+        return task.getAssignedUsers().stream()
+                .map(User::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    // Reading the id of a lazy department proxy does not initialize it
+    public static UUID departmentIdOf(Task task) {
+        return task.getDepartment() == null ? null : task.getDepartment().getId();
+    }
+}
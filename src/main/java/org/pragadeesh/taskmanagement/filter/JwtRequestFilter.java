@@ -5,11 +5,13 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
 
 import org.pragadeesh.taskmanagement.Exception.ErrorResponse;
 import org.pragadeesh.taskmanagement.service.UserDetailsServiceImp;
+import org.pragadeesh.taskmanagement.util.JwtPrincipal;
 import org.pragadeesh.taskmanagement.util.JwtUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,13 +29,21 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 
 @Component
-@RequiredArgsConstructor
 public class JwtRequestFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtRequestFilter.class);
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImp userDetailsServiceImp;
+    private final Timer jwtVerifyTimer;
+
+    public JwtRequestFilter(JwtUtil jwtUtil, UserDetailsServiceImp userDetailsServiceImp, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsServiceImp = userDetailsServiceImp;
+        this.jwtVerifyTimer = Timer.builder("auth.jwt.verify")
+                .description("Time spent parsing and verifying bearer tokens")
+                .register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -42,13 +52,13 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         try {
             final String authorizationHeader = request.getHeader("Authorization");
 
-            String username = null;
-            String jwt = null;
+            JwtPrincipal principal = null;
 
             if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-                jwt = authorizationHeader.substring(7);
+                String jwt = authorizationHeader.substring(7);
                 try {
-                    username = jwtUtil.extractUsername(jwt);
+                    // Single parse + signature check; repeat tokens are served from the verified cache
+                    principal = jwtVerifyTimer.record(() -> jwtUtil.validateToken(jwt));
                 } catch (ExpiredJwtException e) {
                     sendErrorResponse(response, HttpStatus.UNAUTHORIZED, "JWT token has expired");
                     return;
@@ -58,20 +68,18 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                 }
             }
 
-            if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsServiceImp.loadUserByUsername(username);
+            if (principal != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                UserDetails userDetails = userDetailsServiceImp.loadCachedUserByUsername(principal.getUsername());
                 
                 logger.debug("User authorities: {}", userDetails.getAuthorities());
 
-                if (jwtUtil.isValid(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    
-                    logger.debug("Authentication successful. Authorities: {}", 
-                        SecurityContextHolder.getContext().getAuthentication().getAuthorities());
-                }
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+
+                logger.debug("Authentication successful. Authorities: {}",
+                    SecurityContextHolder.getContext().getAuthentication().getAuthorities());
             }
             filterChain.doFilter(request, response);
         } catch (Exception e) {
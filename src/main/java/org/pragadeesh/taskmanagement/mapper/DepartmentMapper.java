@@ -0,0 +1,31 @@
+package org.pragadeesh.taskmanagement.mapper;
+
+import org.pragadeesh.taskmanagement.dto.DepartmentResponseDto;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.service.DepartmentSnapshot;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DepartmentMapper {
+
+    // Reads plain columns only, so detached departments map without touching their collections
+    public DepartmentResponseDto toDto(Department department) {
+        DepartmentResponseDto dto = new DepartmentResponseDto();
+        dto.setId(department.getId());
+        dto.setName(department.getName());
+        dto.setDescription(department.getDescription());
+        dto.setCreatedAt(department.getCreatedAt());
+        dto.setUpdatedAt(department.getUpdatedAt());
+        return dto;
+    }
+
+    public DepartmentResponseDto toDto(DepartmentSnapshot department) {
+        DepartmentResponseDto dto = new DepartmentResponseDto();
+        dto.setId(department.id());
+        dto.setName(department.name());
+        dto.setDescription(department.description());
+        dto.setCreatedAt(department.createdAt());
+        dto.setUpdatedAt(department.updatedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,23 @@
+package org.pragadeesh.taskmanagement.mapper;
+
+import org.pragadeesh.taskmanagement.dto.TaskAuditDto;
+import org.pragadeesh.taskmanagement.model.TaskAudit;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TaskAuditMapper {
+
+    public TaskAuditDto toDto(TaskAudit audit) {
+        TaskAuditDto dto = new TaskAuditDto();
+        dto.setId(audit.getId());
+        dto.setChangeType(audit.getChangeType());
+        dto.setActor(audit.getActor());
+        dto.setChangedAt(audit.getChangedAt());
+        dto.setTitle(audit.getTitle());
+        dto.setStatus(audit.getStatus());
+        dto.setPreviousStatus(audit.getPreviousStatus());
+        dto.setDepartmentId(audit.getDepartmentId());
+        dto.setPreviousDepartmentId(audit.getPreviousDepartmentId());
+        return dto;
+    }
+}
@@ -1,13 +1,22 @@
 package org.pragadeesh.taskmanagement.mapper;
 
 import org.pragadeesh.taskmanagement.dto.DepartmentDto;
+import org.pragadeesh.taskmanagement.dto.NormalizedTaskDto;
+import org.pragadeesh.taskmanagement.dto.NormalizedTaskPageDto;
 import org.pragadeesh.taskmanagement.dto.TaskResponseDto;
+import org.pragadeesh.taskmanagement.dto.TaskTombstoneDto;
 import org.pragadeesh.taskmanagement.dto.UserDto;
 import org.pragadeesh.taskmanagement.model.Department;
 import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskTombstone;
 import org.pragadeesh.taskmanagement.model.User;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -22,6 +31,7 @@ public class TaskMapper {
         dto.setStatus(task.getStatus());
         dto.setCreatedAt(task.getCreatedAt());
         dto.setUpDatedAt(task.getUpdatedAt());
+        dto.setVersion(task.getVersion());
 
         if (task.getDepartment() != null) {
             dto.setDepartment(toDepartmentDto(task.getDepartment()));
@@ -36,6 +46,64 @@ public class TaskMapper {
         return dto;
     }
 
+    /**
+     * Maps a page of tasks to the normalized shape: every department and user once, in order of first
+     * appearance, and each task pointing at them by index.
+     */
+    public NormalizedTaskPageDto toNormalizedPage(List<Task> tasks) {
+        Map<UUID, Integer> departmentIndex = new HashMap<>();
+        Map<UUID, Integer> userIndex = new HashMap<>();
+        List<DepartmentDto> departments = new ArrayList<>();
+        List<UserDto> users = new ArrayList<>();
+        List<NormalizedTaskDto> content = new ArrayList<>(tasks.size());
+
+        for (Task task : tasks) {
+            NormalizedTaskDto dto = new NormalizedTaskDto();
+            dto.setId(task.getId());
+            dto.setTitle(task.getTitle());
+            dto.setDescription(task.getDescription());
+            dto.setDueDate(task.getDueDate());
+            dto.setStatus(task.getStatus());
+            dto.setCreatedAt(task.getCreatedAt());
+            dto.setUpDatedAt(task.getUpdatedAt());
+            dto.setVersion(task.getVersion());
+
+            Department department = task.getDepartment();
+            if (department != null) {
+                dto.setDepartment(departmentIndex.computeIfAbsent(department.getId(), id -> {
+                    departments.add(toDepartmentDto(department));
+                    return departments.size() - 1;
+                }));
+            }
+
+            if (task.getAssignedUsers() != null) {
+                List<Integer> assignees = new ArrayList<>(task.getAssignedUsers().size());
+                for (User user : task.getAssignedUsers()) {
+                    assignees.add(userIndex.computeIfAbsent(user.getId(), id -> {
+                        users.add(toUserDto(user));
+                        return users.size() - 1;
+                    }));
+                }
+                dto.setAssignedUsers(assignees);
+            }
+            content.add(dto);
+        }
+
+        NormalizedTaskPageDto page = new NormalizedTaskPageDto();
+        page.setDepartments(departments);
+        page.setUsers(users);
+        page.setContent(content);
+        page.setSize(content.size());
+        return page;
+    }
+
+    public TaskTombstoneDto toDto(TaskTombstone tombstone) {
+        TaskTombstoneDto dto = new TaskTombstoneDto();
+        dto.setTaskId(tombstone.getTaskId());
+        dto.setDeletedAt(tombstone.getDeletedAt());
+        return dto;
+    }
+
     private DepartmentDto toDepartmentDto(Department department) {
         DepartmentDto dto = new DepartmentDto();
         dto.setId(department.getId());
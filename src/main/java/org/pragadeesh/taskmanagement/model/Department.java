@@ -5,24 +5,34 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Entity
 @Table(name = "departments")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "departments")
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Department {
 
     @Id
-    @GeneratedValue
+    @EqualsAndHashCode.Include
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -31,9 +41,13 @@ public class Department {
     private String description;
 
     @OneToMany(mappedBy = "department")
+    @JsonIgnore
+    @ToString.Exclude
     private Set<User> users = new HashSet<>();
 
     @OneToMany(mappedBy = "department")
+    @JsonIgnore
+    @ToString.Exclude
     private Set<Task> tasks = new HashSet<>();
 
     @CreationTimestamp
@@ -4,6 +4,12 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,12 +20,36 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@NamedEntityGraph(
+        name = Task.DETAIL_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("department"),
+                @NamedAttributeNode(value = "assignedUsers", subgraph = "assignee")
+        },
+        subgraphs = @NamedSubgraph(name = "assignee", attributeNodes = @NamedAttributeNode("department"))
+)
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_created_at_id", columnList = "created_at, id"),
+        // Filter indexes (TaskSpecifications): equality columns first, then the keyset order columns
+        @Index(name = "idx_tasks_status_created_at", columnList = "status, created_at, id"),
+        @Index(name = "idx_tasks_department_status_created_at", columnList = "department_id, status, created_at, id"),
+        @Index(name = "idx_tasks_due_date_status", columnList = "due_date, status"),
+        // Delta sync (GET /tasks/changes) walks tasks in change order
+        @Index(name = "idx_tasks_change_seq", columnList = "change_seq, id")
+})
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class Task {
 
+    // Task with its department and assignees (plus their departments), everything TaskMapper touches
+    public static final String DETAIL_GRAPH = "Task.detail";
+
+    // A full listing page (tasks.page.max-size) of uncached assignee sets loads in one query
+    public static final int ASSIGNEE_BATCH_SIZE = 200;
+
     @Id
-    @GeneratedValue
+    @EqualsAndHashCode.Include
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false, length = 255)
@@ -30,15 +60,22 @@ public class Task {
     private String description;
 
     @ManyToOne
+    @ToString.Exclude
     @JoinColumn(name = "department_id", nullable = false)
     private Department department;
 
     @ManyToMany
+    @ToString.Exclude
     @JoinTable(
         name = "task_assignments", 
         joinColumns = @JoinColumn(name = "task_id"),
-        inverseJoinColumns = @JoinColumn(name = "user_id")
+        inverseJoinColumns = @JoinColumn(name = "user_id"),
+        // The primary key leads with task_id; filtering by assignee needs the reverse
+        indexes = @Index(name = "idx_task_assignments_user_task", columnList = "user_id, task_id")
     )
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task-assignees")
+    // Collections already in the second-level cache are left out of the batch
+    @BatchSize(size = ASSIGNEE_BATCH_SIZE)
     private Set<User> assignedUsers = new HashSet<>();
 
     @Future(message = "Due date should be in the future")
@@ -49,9 +86,21 @@ public class Task {
     private TaskStatus status = TaskStatus.PENDING;
 
     @CreationTimestamp
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // Position in the commit-ordered change sequence, stamped by TaskChangeLog just before commit.
+    // Rows that predate the column read as 0.
+    @ColumnDefault("0")
+    @Column(name = "change_seq", nullable = false, insertable = false, updatable = false)
+    private long changeSeq;
+
+    // Bumped on every update, including assignee changes; exposed to clients as the ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
 }
@@ -0,0 +1,62 @@
+package org.pragadeesh.taskmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One committed change to a task. Rows are inserted in batches by
+ * {@link org.pragadeesh.taskmanagement.audit.TaskAuditWriter}, never updated, and outlive the task
+ * they describe, so {@code task_id} has no foreign key.
+ */
+@Entity
+@Immutable
+@Table(name = "task_audit", indexes = @Index(name = "idx_task_audit_task_id", columnList = "task_id, id"))
+@Data
+public class TaskAudit {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    // UUIDv7 taken when the change is recorded, so a task's history is ordered by id
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeType changeType;
+
+    // Username of the authenticated client; null for changes made outside a request
+    private String actor;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    // Null for bulk status changes, which never load the task
+    private String title;
+
+    @Enumerated(EnumType.STRING)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    private TaskStatus previousStatus;
+
+    private UUID departmentId;
+
+    private UUID previousDepartmentId;
+}
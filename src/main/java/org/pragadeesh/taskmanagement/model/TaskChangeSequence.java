@@ -0,0 +1,26 @@
+package org.pragadeesh.taskmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * The single-row counter behind {@code tasks.change_seq}. Only
+ * {@link org.pragadeesh.taskmanagement.sync.TaskChangeLog} touches it, with plain SQL; it is
+ * mapped so the table is created with the rest of the schema.
+ */
+@Entity
+@Immutable
+@Table(name = "task_change_sequence")
+@Data
+public class TaskChangeSequence {
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_seq", nullable = false)
+    private long lastSeq;
+}
@@ -0,0 +1,34 @@
+package org.pragadeesh.taskmanagement.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Marker left behind by a deleted task, so delta sync clients learn to drop it. Written by
+ * {@link org.pragadeesh.taskmanagement.sync.TaskChangeLog} in the deleting transaction.
+ */
+@Entity
+@Immutable
+@Table(name = "task_tombstones",
+        indexes = @Index(name = "idx_task_tombstones_change_seq", columnList = "change_seq, task_id"))
+@Data
+public class TaskTombstone {
+
+    @Id
+    @Column(name = "task_id")
+    private UUID taskId;
+
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    @Column(nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -0,0 +1,18 @@
+package org.pragadeesh.taskmanagement.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates identifiers with {@link TimeOrderedUuidGenerator}: UUIDv7 values whose byte order
+ * follows creation time, so inserts append to the end of the clustered index.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedUuid {
+}
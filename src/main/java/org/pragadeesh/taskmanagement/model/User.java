@@ -3,6 +3,10 @@ package org.pragadeesh.taskmanagement.model;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -17,11 +21,15 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Data
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue
+    @EqualsAndHashCode.Include
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(nullable = false, unique = true)
@@ -31,10 +39,12 @@ public class User implements UserDetails {
     private String password;
 
     @ManyToOne
+    @ToString.Exclude
     @JoinColumn(name = "department_id")
     private Department department;
 
     @ManyToMany(mappedBy = "assignedUsers")
+    @ToString.Exclude
     private Set<Task> assignedTasks = new HashSet<>();
 
     @CreationTimestamp
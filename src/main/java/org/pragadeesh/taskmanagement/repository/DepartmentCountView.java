@@ -0,0 +1,10 @@
+package org.pragadeesh.taskmanagement.repository;
+
+import java.util.UUID;
+
+public interface DepartmentCountView {
+
+    UUID getDepartmentId();
+
+    long getCount();
+}
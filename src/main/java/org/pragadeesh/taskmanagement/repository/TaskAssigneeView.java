@@ -0,0 +1,10 @@
+package org.pragadeesh.taskmanagement.repository;
+
+import java.util.UUID;
+
+public interface TaskAssigneeView {
+
+    UUID getTaskId();
+
+    UUID getUserId();
+}
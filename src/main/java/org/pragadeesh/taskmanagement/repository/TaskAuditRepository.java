@@ -0,0 +1,18 @@
+package org.pragadeesh.taskmanagement.repository;
+
+import org.pragadeesh.taskmanagement.model.TaskAudit;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskAuditRepository extends JpaRepository<TaskAudit, UUID> {
+
+    // Newest first; both are range scans on idx_task_audit_task_id
+    List<TaskAudit> findByTaskIdOrderByIdDesc(UUID taskId, Limit limit);
+
+    List<TaskAudit> findByTaskIdAndIdLessThanOrderByIdDesc(UUID taskId, UUID before, Limit limit);
+}
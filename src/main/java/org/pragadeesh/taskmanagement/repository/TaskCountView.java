@@ -0,0 +1,14 @@
+package org.pragadeesh.taskmanagement.repository;
+
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+
+import java.util.UUID;
+
+public interface TaskCountView {
+
+    UUID getDepartmentId();
+
+    TaskStatus getStatus();
+
+    long getCount();
+}
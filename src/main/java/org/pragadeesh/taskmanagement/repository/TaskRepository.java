@@ -1,15 +1,101 @@
 package org.pragadeesh.taskmanagement.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.pragadeesh.taskmanagement.model.Task;
 import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
 
-    List<Task> findByStatus(TaskStatus status);
+    // Rows per driver round trip for streamed reads; also how often the export clears the persistence context
+    int EXPORT_FETCH_SIZE = 500;
+
+    // Keyset pagination over (createdAt, id); backed by idx_tasks_created_at_id so
+    // every page is an index range scan regardless of how deep the client is.
+    @EntityGraph(attributePaths = "department")
+    @Query("SELECT t FROM Task t ORDER BY t.createdAt ASC, t.id ASC")
+    List<Task> findFirstPage(Limit limit);
+
+    @EntityGraph(attributePaths = "department")
+    @Query("SELECT t FROM Task t " +
+            "WHERE t.createdAt > :createdAt OR (t.createdAt = :createdAt AND t.id > :id) " +
+            "ORDER BY t.createdAt ASC, t.id ASC")
+    List<Task> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+
+    // Delta sync: tasks changed after the cursor, in change order; a range scan on idx_tasks_change_seq
+    @EntityGraph(attributePaths = "department")
+    @Query("SELECT t FROM Task t " +
+            "WHERE t.changeSeq > :changeSeq OR (t.changeSeq = :changeSeq AND t.id > :id) " +
+            "ORDER BY t.changeSeq ASC, t.id ASC")
+    List<Task> findChangedAfter(@Param("changeSeq") long changeSeq, @Param("id") UUID id, Limit limit);
+
+    // Collections can't be join-fetched together with a LIMIT, so pages are loaded in two
+    // round trips: the keyset query above, then the assignees of exactly those tasks.
+    @EntityGraph(Task.DETAIL_GRAPH)
+    @Query("SELECT DISTINCT t FROM Task t WHERE t.id IN :ids")
+    List<Task> findAllWithDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @EntityGraph(Task.DETAIL_GRAPH)
+    Optional<Task> findWithDetailsById(UUID id);
+
+    // Primary key lookup of a single column, enough to answer a conditional GET
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    // Forward-only cursor over every task for exports. Read-only entities skip dirty-checking snapshots;
+    // on MySQL the fetch size only streams when the URL has useCursorFetch=true.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t JOIN FETCH t.department ORDER BY t.createdAt ASC, t.id ASC")
+    Stream<Task> streamAllForExport();
+
+    // Scalar projection for rebuilding the search index; nothing enters the persistence context
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query("SELECT t.id AS id, t.title AS title, t.description AS description FROM Task t")
+    Stream<TaskTextView> streamTextForIndexing();
+
+    // Bulk status changes: lock the rows of one chunk and read just what the report and events need
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new org.pragadeesh.taskmanagement.repository.TaskStatusRow(t.id, t.status, t.department.id, t.createdAt) " +
+            "FROM Task t WHERE t.id IN :ids")
+    List<TaskStatusRow> lockStatusByIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Completed is final; the conditions repeat the caller's checks so the statement is safe on its own
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1, t.updatedAt = :now " +
+            "WHERE t.id IN :ids AND t.status <> :status " +
+            "AND t.status <> org.pragadeesh.taskmanagement.model.TaskStatus.COMPLETED")
+    int updateStatus(@Param("ids") Collection<UUID> ids, @Param("status") TaskStatus status,
+                     @Param("now") LocalDateTime now);
+
+    // Assignee ids straight from the join table; for events about tasks that were never loaded
+    @Query("SELECT t.id AS taskId, u.id AS userId FROM Task t JOIN t.assignedUsers u WHERE t.id IN :ids")
+    List<TaskAssigneeView> findAssigneeIdsByTaskIdIn(@Param("ids") Collection<UUID> ids);
+
+    // Source of truth for the summary counters; answered from idx_tasks_department_status_created_at
+    @Query("SELECT t.department.id AS departmentId, t.status AS status, COUNT(t) AS count FROM Task t " +
+            "WHERE t.department IS NOT NULL GROUP BY t.department.id, t.status")
+    List<TaskCountView> countByDepartmentAndStatus();
 }
@@ -0,0 +1,68 @@
+package org.pragadeesh.taskmanagement.repository;
+
+import jakarta.persistence.criteria.Predicate;
+import org.pragadeesh.taskmanagement.dto.TaskFilterDto;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.pragadeesh.taskmanagement.util.TaskCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dynamic task queries for the filter endpoint. Every predicate is index-backed (see the indexes on
+ * {@link Task}) and results use the same (createdAt, id) keyset order as the plain task listing.
+ */
+public final class TaskSpecifications {
+
+    public static final Sort KEYSET_ORDER = Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+
+    private TaskSpecifications() {
+    }
+
+    public static Specification<Task> matching(TaskFilterDto filter, TaskCursor after) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getDepartmentId() != null) {
+                // Compares the department_id foreign key directly, no join to departments
+                predicates.add(cb.equal(root.get("department").get("id"), filter.getDepartmentId()));
+            }
+            if (filter.getAssigneeId() != null) {
+                // At most one task_assignments row per (task, user), so the join cannot duplicate tasks
+                predicates.add(cb.equal(root.join("assignedUsers").get("id"), filter.getAssigneeId()));
+            }
+            if (filter.getDueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dueDate"), filter.getDueFrom()));
+            }
+            if (filter.getDueTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dueDate"), filter.getDueTo()));
+            }
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedFrom()));
+            }
+            if (filter.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), filter.getCreatedTo()));
+            }
+            if (after != null) {
+                predicates.add(cb.or(
+                        cb.greaterThan(root.get("createdAt"), after.getCreatedAt()),
+                        cb.and(
+                                cb.equal(root.get("createdAt"), after.getCreatedAt()),
+                                cb.greaterThan(root.get("id"), after.getId()))));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    // Tasks a bulk status change would actually move: not already there, and not completed (which is final)
+    public static Specification<Task> canMoveTo(TaskStatus status) {
+        return (root, query, cb) -> cb.not(root.get("status").in(status, TaskStatus.COMPLETED));
+    }
+}
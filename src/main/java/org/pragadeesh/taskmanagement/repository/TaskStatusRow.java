@@ -0,0 +1,21 @@
+package org.pragadeesh.taskmanagement.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns a bulk status change needs, selected as scalars so no task entity is loaded.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskStatusRow {
+
+    private final UUID id;
+    private final TaskStatus status;
+    private final UUID departmentId;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,15 @@
+package org.pragadeesh.taskmanagement.repository;
+
+import java.util.UUID;
+
+/**
+ * The searchable text of a task, read without loading the entity.
+ */
+public interface TaskTextView {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getDescription();
+}
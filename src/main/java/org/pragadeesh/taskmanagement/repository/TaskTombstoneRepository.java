@@ -0,0 +1,22 @@
+package org.pragadeesh.taskmanagement.repository;
+
+import org.pragadeesh.taskmanagement.model.TaskTombstone;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, UUID> {
+
+    // Same keyset as TaskRepository.findChangedAfter; answered from idx_task_tombstones_change_seq
+    @Query("SELECT t FROM TaskTombstone t " +
+            "WHERE t.changeSeq > :changeSeq OR (t.changeSeq = :changeSeq AND t.taskId > :taskId) " +
+            "ORDER BY t.changeSeq ASC, t.taskId ASC")
+    List<TaskTombstone> findChangedAfter(@Param("changeSeq") long changeSeq, @Param("taskId") UUID taskId,
+                                         Limit limit);
+}
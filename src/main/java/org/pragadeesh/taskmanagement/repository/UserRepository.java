@@ -2,8 +2,10 @@ package org.pragadeesh.taskmanagement.repository;
 
 import org.pragadeesh.taskmanagement.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,4 +13,10 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByUsername(String username);
+
+    long countByDepartmentId(UUID departmentId);
+
+    @Query("SELECT u.department.id AS departmentId, COUNT(u) AS count FROM User u " +
+            "WHERE u.department IS NOT NULL GROUP BY u.department.id")
+    List<DepartmentCountView> countByDepartment();
 }
@@ -0,0 +1,91 @@
+package org.pragadeesh.taskmanagement.search;
+
+import java.util.Arrays;
+
+/**
+ * Documents containing one term, as parallel arrays of doc ids (ascending) and term frequencies.
+ * Primitive arrays keep a posting at 8 bytes; a map of boxed entries would be ten times that.
+ * Not thread-safe, {@link TaskSearchIndex} guards all access.
+ */
+final class PostingList {
+
+    private final String term;
+    private int[] docs = new int[2];
+    private int[] frequencies = new int[2];
+    private int size;
+
+    PostingList(String term) {
+        this.term = term;
+    }
+
+    String term() {
+        return term;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int docAt(int index) {
+        return docs[index];
+    }
+
+    int frequencyAt(int index) {
+        return frequencies[index];
+    }
+
+    int frequency(int doc) {
+        int index = Arrays.binarySearch(docs, 0, size, doc);
+        return index >= 0 ? frequencies[index] : 0;
+    }
+
+    /**
+     * Index of the first posting at or after {@code from} whose doc is {@code >= doc}, or
+     * {@link #size()}. Gallops forward first, so probing ascending docs costs little per step.
+     */
+    int seek(int doc, int from) {
+        if (from >= size || docs[from] >= doc) {
+            return from;
+        }
+        int low = from;
+        int step = 1;
+        int high = from + step;
+        while (high < size && docs[high] < doc) {
+            low = high;
+            step <<= 1;
+            high = from + step;
+        }
+        int index = Arrays.binarySearch(docs, low + 1, Math.min(high, size), doc);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    void put(int doc, int frequency) {
+        int index = Arrays.binarySearch(docs, 0, size, doc);
+        if (index >= 0) {
+            frequencies[index] = frequency;
+            return;
+        }
+        // Mostly an append; a re-indexed task or a reused doc id lands in the middle
+        index = -index - 1;
+        if (size == docs.length) {
+            int capacity = docs.length + (docs.length >> 1) + 1;
+            docs = Arrays.copyOf(docs, capacity);
+            frequencies = Arrays.copyOf(frequencies, capacity);
+        }
+        System.arraycopy(docs, index, docs, index + 1, size - index);
+        System.arraycopy(frequencies, index, frequencies, index + 1, size - index);
+        docs[index] = doc;
+        frequencies[index] = frequency;
+        size++;
+    }
+
+    void remove(int doc) {
+        int index = Arrays.binarySearch(docs, 0, size, doc);
+        if (index < 0) {
+            return;
+        }
+        System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+        System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+        size--;
+    }
+}
@@ -0,0 +1,17 @@
+package org.pragadeesh.taskmanagement.search;
+
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Getter
+public class TaskSearchHit {
+
+    private final UUID taskId;
+    private final float score;
+
+    public TaskSearchHit(UUID taskId, float score) {
+        this.taskId = taskId;
+        this.score = score;
+    }
+}
@@ -0,0 +1,424 @@
+package org.pragadeesh.taskmanagement.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over task titles and descriptions, ranked with BM25.
+ *
+ * <p>All query terms must match (AND); the last term also matches as a prefix once it has
+ * {@value #MIN_PREFIX_LENGTH} characters, so results update while the user is still typing. Title words weigh {@value #TITLE_WEIGHT} times as much as
+ * description words. A query intersects the posting lists of its terms starting from the shortest,
+ * so its cost follows the rarest term rather than the number of tasks.
+ *
+ * <p>Searches share a read lock; writes are serialized and only touch the postings of the terms
+ * of the task being written.
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int MAX_QUERY_TERMS = 8;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    // Shorter prefixes expand to a large share of the vocabulary and would match almost everything
+    private static final int MIN_PREFIX_LENGTH = 3;
+    private static final int MAX_TOKEN_LENGTH = 64;
+    // A prefix group with more than 1/DENSE_FACTOR postings per doc is scored through a doc-indexed array
+    private static final int DENSE_FACTOR = 16;
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+    private final Map<UUID, Integer> docIds = new HashMap<>();
+
+    // Indexed by internal doc id. Ids of removed tasks are handed out again, so these arrays and the
+    // dense score buffer of a search stay bounded by the most tasks ever indexed at once.
+    private UUID[] taskIds = new UUID[1024];
+    private int[] lengths = new int[1024];
+    private PostingList[][] docPostings = new PostingList[1024][];
+    private int nextDocId;
+    // Freed doc ids, most recently freed on top; a high id sits near the end of its posting lists
+    private int[] freeDocIds = new int[16];
+    private int freeDocCount;
+    private long totalLength;
+
+    /**
+     * Adds the task or replaces its previously indexed text. Returns without touching the
+     * postings when the text is unchanged, e.g. for status-only updates.
+     */
+    public void index(UUID taskId, String title, String description) {
+        Map<String, Integer> frequencies = termFrequencies(title, description);
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = docIds.get(taskId);
+            int doc;
+            if (existing != null) {
+                doc = existing;
+                if (hasSameTerms(doc, frequencies)) {
+                    return;
+                }
+                unindex(doc);
+            } else {
+                doc = freeDocCount > 0 ? freeDocIds[--freeDocCount] : nextDocId++;
+                ensureCapacity(doc);
+                docIds.put(taskId, doc);
+                taskIds[doc] = taskId;
+            }
+
+            PostingList[] lists = new PostingList[frequencies.size()];
+            int i = 0;
+            int length = 0;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                PostingList list = postings.computeIfAbsent(entry.getKey(), PostingList::new);
+                list.put(doc, entry.getValue());
+                lists[i++] = list;
+                length += entry.getValue();
+            }
+            docPostings[doc] = lists;
+            lengths[doc] = length;
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Like {@link #index} but leaves tasks that are already indexed alone. Used by the startup
+     * rebuild so it cannot overwrite newer text indexed from a concurrent update.
+     */
+    public void indexIfAbsent(UUID taskId, String title, String description) {
+        lock.readLock().lock();
+        try {
+            if (docIds.containsKey(taskId)) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        index(taskId, title, description);
+    }
+
+    public void remove(UUID taskId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docIds.remove(taskId);
+            if (doc == null) {
+                return;
+            }
+            unindex(doc);
+            taskIds[doc] = null;
+            docPostings[doc] = null;
+            if (freeDocCount == freeDocIds.length) {
+                freeDocIds = Arrays.copyOf(freeDocIds, freeDocCount << 1);
+            }
+            freeDocIds[freeDocCount++] = doc;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // One past the highest doc id in use or free; what the doc-indexed arrays have to cover
+    int docIdLimit() {
+        lock.readLock().lock();
+        try {
+            return nextDocId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns at most {@code limit} matching tasks, best match first.
+     */
+    public List<TaskSearchHit> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (docIds.isEmpty()) {
+                return List.of();
+            }
+            Bm25 bm25 = new Bm25((float) totalLength / docIds.size());
+
+            List<TermGroup> groups = new ArrayList<>(terms.size());
+            for (int i = 0; i < terms.size(); i++) {
+                String term = terms.get(i);
+                boolean prefix = i == terms.size() - 1 && term.length() >= MIN_PREFIX_LENGTH;
+                PostingList[] lists = prefix ? prefixMatches(term) : exactMatch(term);
+                if (lists.length == 0) {
+                    return List.of();
+                }
+                groups.add(new TermGroup(lists, docIds.size()));
+            }
+            // Drive the intersection from the group with the fewest postings; the others are only probed
+            groups.sort(Comparator.comparingLong(group -> group.postings));
+            TermGroup driver = groups.get(0);
+            List<TermGroup> others = groups.subList(1, groups.size());
+
+            TopHits best = new TopHits(limit);
+            if (driver.lists.length == 1) {
+                PostingList list = driver.lists[0];
+                for (int i = 0; i < list.size(); i++) {
+                    int doc = list.docAt(i);
+                    float norm = bm25.norm(lengths[doc]);
+                    collect(best, doc, driver.score(0, list.frequencyAt(i), norm), others, norm);
+                }
+            } else if (driver.postings * DENSE_FACTOR > nextDocId) {
+                // Wide prefix: summing into a doc-indexed array beats merging dozens of long lists
+                float[] scores = new float[nextDocId];
+                for (int t = 0; t < driver.lists.length; t++) {
+                    PostingList list = driver.lists[t];
+                    for (int i = 0; i < list.size(); i++) {
+                        int doc = list.docAt(i);
+                        scores[doc] += driver.score(t, list.frequencyAt(i), bm25.norm(lengths[doc]));
+                    }
+                }
+                for (int doc = 0; doc < scores.length; doc++) {
+                    if (scores[doc] > 0) {
+                        collect(best, doc, scores[doc], others, bm25.norm(lengths[doc]));
+                    }
+                }
+            } else {
+                for (int doc : distinctDocs(driver.lists, driver.postings)) {
+                    float norm = bm25.norm(lengths[doc]);
+                    collect(best, doc, driver.score(doc, norm), others, norm);
+                }
+            }
+
+            TaskSearchHit[] hits = new TaskSearchHit[best.heap.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                ScoredDoc scored = best.heap.poll();
+                hits[i] = new TaskSearchHit(taskIds[scored.doc], scored.score);
+            }
+            return Arrays.asList(hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token);
+                if (tokens.size() == MAX_QUERY_TERMS) {
+                    break;
+                }
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private static Map<String, Integer> termFrequencies(String title, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(title, TITLE_WEIGHT, frequencies);
+        addTerms(description, 1, frequencies);
+        return frequencies;
+    }
+
+    private static void addTerms(String text, int weight, Map<String, Integer> frequencies) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+        for (String token : NON_WORD.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                String term = token.length() > MAX_TOKEN_LENGTH ? token.substring(0, MAX_TOKEN_LENGTH) : token;
+                frequencies.merge(term, weight, Integer::sum);
+            }
+        }
+    }
+
+    private boolean hasSameTerms(int doc, Map<String, Integer> frequencies) {
+        PostingList[] lists = docPostings[doc];
+        if (lists.length != frequencies.size()) {
+            return false;
+        }
+        for (PostingList list : lists) {
+            Integer frequency = frequencies.get(list.term());
+            if (frequency == null || frequency != list.frequency(doc)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void unindex(int doc) {
+        for (PostingList list : docPostings[doc]) {
+            list.remove(doc);
+            if (list.size() == 0) {
+                postings.remove(list.term());
+            }
+        }
+        totalLength -= lengths[doc];
+        lengths[doc] = 0;
+    }
+
+    private void ensureCapacity(int doc) {
+        if (doc < taskIds.length) {
+            return;
+        }
+        int capacity = taskIds.length << 1;
+        taskIds = Arrays.copyOf(taskIds, capacity);
+        lengths = Arrays.copyOf(lengths, capacity);
+        docPostings = Arrays.copyOf(docPostings, capacity);
+    }
+
+    private PostingList[] exactMatch(String term) {
+        PostingList list = postings.get(term);
+        return list == null ? new PostingList[0] : new PostingList[]{list};
+    }
+
+    private PostingList[] prefixMatches(String prefix) {
+        // The exact term sorts first, so it is always among the expansions kept
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values()
+                .stream()
+                .limit(MAX_PREFIX_EXPANSIONS)
+                .toArray(PostingList[]::new);
+    }
+
+    // Adds the probed groups' scores; the doc is dropped as soon as one group does not match it
+    private static void collect(TopHits best, int doc, float score, List<TermGroup> others, float norm) {
+        for (TermGroup group : others) {
+            float groupScore = group.score(doc, norm);
+            if (groupScore == 0) {
+                return;
+            }
+            score += groupScore;
+        }
+        best.offer(doc, score);
+    }
+
+    // Distinct docs of a narrow prefix group; a doc can appear in several of its lists
+    private static int[] distinctDocs(PostingList[] lists, long postings) {
+        int[] docs = new int[(int) postings];
+        int size = 0;
+        for (PostingList list : lists) {
+            for (int i = 0; i < list.size(); i++) {
+                docs[size++] = list.docAt(i);
+            }
+        }
+        Arrays.sort(docs);
+        return Arrays.stream(docs).distinct().toArray();
+    }
+
+    /**
+     * The posting lists one query word matches (one list, or several for a prefix) and their idf.
+     */
+    private static final class TermGroup {
+
+        final PostingList[] lists;
+        final float[] idf;
+        final long postings;
+        // Probed docs arrive in ascending order, so each list is only ever scanned forward
+        private final int[] cursors;
+
+        TermGroup(PostingList[] lists, int docCount) {
+            this.lists = lists;
+            this.idf = new float[lists.length];
+            this.cursors = new int[lists.length];
+            long count = 0;
+            for (int i = 0; i < lists.length; i++) {
+                int df = lists[i].size();
+                idf[i] = (float) Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+                count += df;
+            }
+            this.postings = count;
+        }
+
+        float score(int list, int frequency, float norm) {
+            return idf[list] * frequency * (K1 + 1) / (frequency + norm);
+        }
+
+        // Sum of the BM25 contributions of the group's terms; 0 when the doc contains none of them.
+        // Must be called with ascending docs.
+        float score(int doc, float norm) {
+            float score = 0;
+            for (int i = 0; i < lists.length; i++) {
+                PostingList list = lists[i];
+                int index = list.seek(doc, cursors[i]);
+                cursors[i] = index;
+                if (index < list.size() && list.docAt(index) == doc) {
+                    score += score(i, list.frequencyAt(index), norm);
+                }
+            }
+            return score;
+        }
+    }
+
+    private static final class TopHits {
+
+        final int limit;
+        final PriorityQueue<ScoredDoc> heap;
+
+        TopHits(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit + 1, ScoredDoc.WORST_FIRST);
+        }
+
+        void offer(int doc, float score) {
+            // Most candidates of a common word lose to the current worst hit; skip allocating for them
+            if (heap.size() == limit && score <= heap.peek().score()) {
+                return;
+            }
+            heap.offer(new ScoredDoc(doc, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+    }
+
+    // Length normalization of BM25, with the per-query constants folded in once
+    private static final class Bm25 {
+
+        private final float base = K1 * (1 - B);
+        private final float perToken;
+
+        Bm25(float averageLength) {
+            this.perToken = K1 * B / averageLength;
+        }
+
+        float norm(int length) {
+            return base + perToken * length;
+        }
+    }
+
+    private record ScoredDoc(int doc, float score) {
+
+        // Lowest score at the head so the heap evicts it first; ties keep the lower doc id
+        static final Comparator<ScoredDoc> WORST_FIRST = Comparator.comparingDouble(ScoredDoc::score)
+                .thenComparing(Comparator.comparingInt(ScoredDoc::doc).reversed());
+    }
+}
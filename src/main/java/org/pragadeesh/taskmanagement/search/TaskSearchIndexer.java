@@ -0,0 +1,62 @@
+package org.pragadeesh.taskmanagement.search;
+
+import org.pragadeesh.taskmanagement.datasource.ReadWriteRoutingDataSource;
+import org.pragadeesh.taskmanagement.event.TaskChangedEvent;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.pragadeesh.taskmanagement.repository.TaskTextView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Keeps {@link TaskSearchIndex} in sync with the database: a full rebuild once the application is
+ * ready, then one incremental update per committed task change.
+ */
+@Component
+public class TaskSearchIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskSearchIndexer.class);
+
+    private final TaskSearchIndex index;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public TaskSearchIndexer(TaskSearchIndex index, TaskRepository taskRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.index = index;
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        // From the primary, so writes committed while the replica lags are not indexed late
+        ReadWriteRoutingDataSource.onPrimary(() -> readOnlyTransaction.execute(status -> {
+            try (Stream<TaskTextView> tasks = taskRepository.streamTextForIndexing()) {
+                tasks.forEach(task -> index.indexIfAbsent(task.getId(), task.getTitle(), task.getDescription()));
+            }
+            return null;
+        }));
+        logger.info("Search index built with {} tasks in {} ms", index.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // Runs only once the write is committed, so rolled back changes never reach the index.
+    // fallbackExecution covers the service methods that write without a surrounding transaction.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getType() == TaskChangedEvent.Type.DELETED) {
+            index.remove(event.getTaskId());
+        } else if (event.hasText()) {
+            index.index(event.getTaskId(), event.getTitle(), event.getDescription());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.pragadeesh.taskmanagement.search;
+
+import lombok.RequiredArgsConstructor;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskSearchService {
+
+    private final TaskSearchIndex index;
+    private final TaskRepository taskRepository;
+
+    /**
+     * Ranks tasks in memory, then loads only the hits (with department and assignees) in one query.
+     */
+    @Transactional(readOnly = true)
+    public List<Task> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+
+        List<TaskSearchHit> hits = index.search(query, limit);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Task> tasks = taskRepository.findAllWithDetailsByIdIn(hits.stream()
+                        .map(TaskSearchHit::getTaskId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        // Keep the ranking order; a hit deleted since it was indexed is simply dropped
+        return hits.stream()
+                .map(hit -> tasks.get(hit.getTaskId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
@@ -2,6 +2,7 @@ package org.pragadeesh.taskmanagement.service;
 
 import lombok.RequiredArgsConstructor;
 
+import org.pragadeesh.taskmanagement.Exception.PasswordHashingBusyException;
 import org.pragadeesh.taskmanagement.Exception.UserAlreadyExistsException;
 import org.pragadeesh.taskmanagement.dto.UserLoginDto;
 import org.pragadeesh.taskmanagement.dto.UserSignupDto;
@@ -9,6 +10,7 @@ import org.pragadeesh.taskmanagement.model.User;
 import org.pragadeesh.taskmanagement.repository.UserRepository;
 import org.pragadeesh.taskmanagement.util.JwtResponse;
 import org.pragadeesh.taskmanagement.util.JwtUtil;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -24,25 +26,31 @@ import java.util.Objects;
 public class AuthenticationService {
 
     private final UserRepository userRepository;
+    private final UserDirectory userDirectory;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
 
     public User register(UserSignupDto request) {
 
-        if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-            throw new UserAlreadyExistsException("User already exists with username: " + request.getUsername());
-        }
+        Objects.requireNonNull(request, "Signup request cannot be null");
+        Objects.requireNonNull(request.getUsername(), "username cannot be null");
+        Objects.requireNonNull(request.getPassword(), "Password cannot be null");
 
+        User user = new User();
+        user.setUsername(request.getUsername());
+        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setRole(request.getRole());
+        User savedUser;
         try {
-            User user = new User();
-            user.setUsername(request.getUsername());
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
-            user.setRole(request.getRole());
-            return userRepository.save(user);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to register user" + e.getMessage());
+            // The unique index on username decides, instead of a lookup before the insert; with the
+            // required fields checked above, it is the only constraint the insert can violate
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw new UserAlreadyExistsException("User already exists with username: " + request.getUsername());
         }
+        userDirectory.evict(savedUser);
+        return savedUser;
     }
 
     public JwtResponse login(UserLoginDto request) {
@@ -52,6 +60,8 @@ public class AuthenticationService {
         Objects.requireNonNull(request.getPassword(), "Password cannot be null");
 
         try {
+            // The BCrypt comparison runs on the password encoder's pool; the provider also re-hashes
+            // passwords stored with another work factor
             authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             request.getUsername(),
@@ -59,7 +69,7 @@ public class AuthenticationService {
                     )
             );
 
-            User user = userRepository.findByUsername(request.getUsername())
+            UserSnapshot user = userDirectory.findByUsername(request.getUsername())
                     .orElseThrow(() -> new UsernameNotFoundException("user not found with username: " + request.getUsername()));
 
             String token = jwtUtil.generateToken(user);
@@ -71,6 +81,8 @@ public class AuthenticationService {
             return new JwtResponse(token);
         } catch (AuthenticationException e) {
             throw new BadCredentialsException("Invalid username or password");
+        } catch (PasswordHashingBusyException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Authentication failed" + e.getMessage());
         }
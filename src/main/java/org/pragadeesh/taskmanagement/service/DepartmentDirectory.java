@@ -0,0 +1,113 @@
+package org.pragadeesh.taskmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.pragadeesh.taskmanagement.datasource.ReadWriteRoutingDataSource;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * In-process cache of departments for task writes, listings and the task summary. Departments are
+ * few and rarely change, so the full list is cached as one entry next to the by-id lookups, and
+ * {@link DepartmentService} drops everything on any department write. Misses are read from the
+ * primary, so a lagging replica cannot pin an old row for a whole TTL.
+ * <p>
+ * Entries are immutable {@link DepartmentSnapshot}s. Sessions that need the entity load it from
+ * the {@code departments} second-level cache region instead.
+ */
+@Service
+public class DepartmentDirectory {
+
+    private static final String ALL = "all";
+
+    private final DepartmentRepository departmentRepository;
+    private final Cache<UUID, DepartmentSnapshot> departmentsById;
+    private final Cache<String, List<DepartmentSnapshot>> allDepartments;
+
+    public DepartmentDirectory(DepartmentRepository departmentRepository,
+                               @Value("${departments.cache.max-size:1000}") long maxSize,
+                               @Value("${departments.cache.ttl:10m}") Duration ttl) {
+        this.departmentRepository = departmentRepository;
+        this.departmentsById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.allDepartments = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<DepartmentSnapshot> findById(UUID id) {
+        DepartmentSnapshot cached = departmentsById.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<DepartmentSnapshot> department = ReadWriteRoutingDataSource.onPrimary(() -> departmentRepository.findById(id))
+                .map(DepartmentSnapshot::of);
+        department.ifPresent(found -> departmentsById.put(found.id(), found));
+        return department;
+    }
+
+    /**
+     * Returns the departments that exist among {@code ids}; cache misses are loaded with a single query.
+     */
+    public List<DepartmentSnapshot> findAllById(Collection<UUID> ids) {
+        List<DepartmentSnapshot> departments = new ArrayList<>(ids.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            DepartmentSnapshot cached = departmentsById.getIfPresent(id);
+            if (cached != null) {
+                departments.add(cached);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (Department department : ReadWriteRoutingDataSource.onPrimary(() -> departmentRepository.findAllById(missing))) {
+                DepartmentSnapshot snapshot = DepartmentSnapshot.of(department);
+                departmentsById.put(snapshot.id(), snapshot);
+                departments.add(snapshot);
+            }
+        }
+        return departments;
+    }
+
+    /**
+     * Every department ordered by name, as an unmodifiable list.
+     */
+    public List<DepartmentSnapshot> findAll() {
+        return allDepartments.get(ALL, key -> ReadWriteRoutingDataSource.onPrimary(
+                        () -> departmentRepository.findAll(Sort.by("name")))
+                .stream()
+                .map(DepartmentSnapshot::of)
+                .collect(Collectors.toUnmodifiableList()));
+    }
+
+    public void evictAll() {
+        departmentsById.invalidateAll();
+        allDepartments.invalidateAll();
+    }
+
+    public Cache<UUID, DepartmentSnapshot> getDepartmentsById() {
+        return departmentsById;
+    }
+
+    public Cache<String, List<DepartmentSnapshot>> getAllDepartments() {
+        return allDepartments;
+    }
+}
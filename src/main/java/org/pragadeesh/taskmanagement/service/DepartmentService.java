@@ -1,13 +1,20 @@
 package org.pragadeesh.taskmanagement.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.pragadeesh.taskmanagement.Exception.DepartmentNotFoundException;
+import org.pragadeesh.taskmanagement.cache.TaskResponseCache;
+import org.pragadeesh.taskmanagement.dto.DepartmentCreateDto;
 import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.repository.DepartmentCountView;
 import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.pragadeesh.taskmanagement.repository.UserRepository;
+import org.pragadeesh.taskmanagement.summary.TaskCounts;
 import org.springframework.stereotype.Service;
 
-import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -15,28 +22,64 @@ import lombok.RequiredArgsConstructor;
 public class DepartmentService {
     
     private final DepartmentRepository departmentRepository;
+    private final DepartmentDirectory departmentDirectory;
+    private final UserDirectory userDirectory;
+    private final UserRepository userRepository;
+    private final TaskCounts taskCounts;
+    private final TaskResponseCache taskResponseCache;
 
-    public Department createDepartment(Department department) {
-        return departmentRepository.save(department);
+    public Department createDepartment(DepartmentCreateDto departmentDto) {
+        Department department = new Department();
+        department.setName(departmentDto.getName());
+        department.setDescription(departmentDto.getDescription());
+        Department savedDepartment = departmentRepository.save(department);
+        departmentDirectory.evictAll();
+        return savedDepartment;
     }
 
-    public List<Department> getAllDepartment() {
-        return departmentRepository.findAll();
+    public List<DepartmentSnapshot> getAllDepartment() {
+        return departmentDirectory.findAll();
     }
 
-    public Department getDepartmentById(UUID id) {
-        return departmentRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Department not found with id: " + id));
+    public DepartmentSnapshot getDepartmentById(UUID id) {
+        return departmentDirectory.findById(id)
+                .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + id));
     }
 
-    public Department updateDepartment(UUID id, Department department) {
-        Department existingDepartment = getDepartmentById(id);
-        existingDepartment.setName(department.getName());
-        existingDepartment.setDescription(department.getDescription());
-        return departmentRepository.save(existingDepartment);
+    public Department updateDepartment(UUID id, DepartmentCreateDto departmentDto) {
+        // Loaded from the database, not the directory, so the update starts from the current row
+        Department existingDepartment = departmentRepository.findById(id)
+                .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + id));
+        existingDepartment.setName(departmentDto.getName());
+        existingDepartment.setDescription(departmentDto.getDescription());
+        Department savedDepartment = departmentRepository.save(existingDepartment);
+        departmentDirectory.evictAll();
+        userDirectory.evictAll();
+        // Cached task responses embed the department
+        taskResponseCache.invalidateAll();
+        return savedDepartment;
     }
 
     public void deleteDepartment(UUID id) {
         departmentRepository.deleteById(id);
+        departmentDirectory.evictAll();
+        userDirectory.evictAll();
+        // Cached task responses embed the department
+        taskResponseCache.invalidateAll();
+    }
+
+    // One GROUP BY over users; departments without members are absent
+    public Map<UUID, Long> countUsersByDepartment() {
+        return userRepository.countByDepartment().stream()
+                .collect(Collectors.toMap(DepartmentCountView::getDepartmentId, DepartmentCountView::getCount));
+    }
+
+    public long countUsers(UUID departmentId) {
+        return userRepository.countByDepartmentId(departmentId);
+    }
+
+    // Served from the task summary counters, no query
+    public long countTasks(UUID departmentId) {
+        return taskCounts.total(departmentId);
     }
 }
@@ -0,0 +1,20 @@
+package org.pragadeesh.taskmanagement.service;
+
+import org.pragadeesh.taskmanagement.model.Department;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The columns of a department that {@link DepartmentDirectory} caches. Unlike a detached entity it
+ * carries no lazy collections tied to a closed session, and callers on other threads cannot change
+ * it under each other. Tasks link to the department by reference, never to a snapshot.
+ */
+public record DepartmentSnapshot(UUID id, String name, String description, LocalDateTime createdAt,
+                                 LocalDateTime updatedAt) {
+
+    public static DepartmentSnapshot of(Department department) {
+        return new DepartmentSnapshot(department.getId(), department.getName(), department.getDescription(),
+                department.getCreatedAt(), department.getUpdatedAt());
+    }
+}
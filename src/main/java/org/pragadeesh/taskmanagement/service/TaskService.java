@@ -2,42 +2,181 @@ package org.pragadeesh.taskmanagement.service;
 
 import lombok.RequiredArgsConstructor;
 
+import org.hibernate.CacheMode;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.pragadeesh.taskmanagement.Exception.DepartmentNotFoundException;
 import org.pragadeesh.taskmanagement.Exception.TaskNotFoundException;
+import org.pragadeesh.taskmanagement.Exception.TaskVersionMismatchException;
 import org.pragadeesh.taskmanagement.Exception.UserNotFoundException;
+import org.pragadeesh.taskmanagement.dto.TaskBatchItemResultDto;
+import org.pragadeesh.taskmanagement.dto.TaskBatchResponseDto;
 import org.pragadeesh.taskmanagement.dto.TaskCreateDto;
+import org.pragadeesh.taskmanagement.dto.TaskFilterDto;
+import org.pragadeesh.taskmanagement.dto.TaskStatusUpdateDto;
+import org.pragadeesh.taskmanagement.dto.TaskStatusUpdateResponseDto;
+import org.pragadeesh.taskmanagement.event.TaskChangedEvent;
 import org.pragadeesh.taskmanagement.model.Department;
 import org.pragadeesh.taskmanagement.model.Task;
 import org.pragadeesh.taskmanagement.model.TaskStatus;
 import org.pragadeesh.taskmanagement.model.User;
-import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.pragadeesh.taskmanagement.repository.TaskAssigneeView;
 import org.pragadeesh.taskmanagement.repository.TaskRepository;
-import org.pragadeesh.taskmanagement.repository.UserRepository;
+import org.pragadeesh.taskmanagement.repository.TaskSpecifications;
+import org.pragadeesh.taskmanagement.repository.TaskStatusRow;
+import org.pragadeesh.taskmanagement.util.TaskChangeCursor;
+import org.pragadeesh.taskmanagement.util.TaskCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class TaskService {
 
+    // Ids per locking read and UPDATE of a bulk status change; keeps IN lists and lock sets moderate
+    static final int STATUS_UPDATE_CHUNK_SIZE = 500;
+
     private final TaskRepository taskRepository;
-    private final UserRepository userRepository;
-    private final DepartmentRepository departmentRepository;
+    private final UserDirectory userDirectory;
+    private final DepartmentDirectory departmentDirectory;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}")
+    private int jdbcBatchSize;
+
+    @Value("${tasks.batch.max-items:50000}")
+    private int batchMaxItems;
 
     public Task getTaskById(UUID id) {
-        return taskRepository.findById(id)
+        return taskRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + id));
     }
 
-    public List<Task> getAllTask() {
-        return taskRepository.findAll();
+    public long getTaskVersion(UUID id) {
+        return taskRepository.findVersionById(id)
+                .orElseThrow(() -> new TaskNotFoundException("Task not found with id: " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Task> getTaskPage(TaskCursor after, int limit) {
+        List<Task> tasks = after == null
+                ? taskRepository.findFirstPage(Limit.of(limit))
+                : taskRepository.findPageAfter(after.getCreatedAt(), after.getId(), Limit.of(limit));
+        fetchDetails(tasks);
+        return tasks;
+    }
+
+    /**
+     * Tasks changed after {@code after}, in change order, with their details loaded.
+     */
+    @Transactional(readOnly = true)
+    public List<Task> getChangedTasks(TaskChangeCursor after, int limit) {
+        List<Task> tasks = taskRepository.findChangedAfter(after.getChangeSeq(), after.getId(), Limit.of(limit));
+        fetchDetails(tasks);
+        return tasks;
+    }
+
+    /**
+     * One keyset page of the tasks matching {@code filter}, in the same order as {@link #getTaskPage}.
+     */
+    @Transactional(readOnly = true)
+    public List<Task> filterTasks(TaskFilterDto filter, TaskCursor after, int limit) {
+        validateFilter(filter);
+
+        List<Task> tasks = taskRepository.findBy(TaskSpecifications.matching(filter, after), query -> query
+                .sortBy(TaskSpecifications.KEYSET_ORDER)
+                .limit(limit)
+                .project("department")
+                .all());
+        fetchDetails(tasks);
+        return tasks;
+    }
+
+    private void validateFilter(TaskFilterDto filter) {
+        if (filter.getDueFrom() != null && filter.getDueTo() != null && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new IllegalArgumentException("dueFrom must not be after dueTo");
+        }
+        if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && !filter.getCreatedFrom().isBefore(filter.getCreatedTo())) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+    }
+
+    // Initializes assignees of already-loaded tasks. Hibernate serves each collection from the
+    // second-level cache where it can and batch-loads the rest (@BatchSize on Task.assignedUsers),
+    // recording cache hits and misses itself. A session that bypasses the cache gets them all in
+    // one query instead. The tasks are the same persistence-context instances either way, so the
+    // caller's ordering is preserved.
+    private void fetchDetails(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        if (!entityManager.unwrap(Session.class).getCacheMode().isGetEnabled()) {
+            taskRepository.findAllWithDetailsByIdIn(tasks.stream().map(Task::getId).toList());
+            return;
+        }
+        tasks.forEach(task -> Hibernate.initialize(task.getAssignedUsers()));
+    }
+
+    /**
+     * Streams every task, oldest first, into {@code sink} and returns how many were written. Rows
+     * are handed over in chunks of {@link TaskRepository#EXPORT_FETCH_SIZE}: each chunk gets its
+     * assignees in one query and is then cleared from the persistence context, so memory stays flat
+     * no matter how many tasks exist.
+     */
+    @Transactional(readOnly = true)
+    public long exportTasks(Consumer<Task> sink) {
+        // A full export would otherwise push every task's assignees through the second-level
+        // cache and evict the entries the listing endpoints rely on
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        long exported = 0;
+        List<Task> chunk = new ArrayList<>(TaskRepository.EXPORT_FETCH_SIZE);
+        try (Stream<Task> tasks = taskRepository.streamAllForExport()) {
+            for (Task task : (Iterable<Task>) tasks::iterator) {
+                chunk.add(task);
+                if (chunk.size() == TaskRepository.EXPORT_FETCH_SIZE) {
+                    exported += exportChunk(chunk, sink);
+                }
+            }
+        }
+        exported += exportChunk(chunk, sink);
+        return exported;
+    }
+
+    // Batch fetching does not apply to scrolled rows, so assignees are loaded explicitly per chunk
+    private int exportChunk(List<Task> chunk, Consumer<Task> sink) {
+        fetchDetails(chunk);
+        chunk.forEach(sink);
+        int exported = chunk.size();
+        chunk.clear();
+        entityManager.clear();
+        return exported;
     }
 
     @Transactional
@@ -49,97 +188,371 @@ public class TaskService {
         task.setStatus(TaskStatus.PENDING);
 
         if (taskCreateDto.getDepartmentId() != null) {
-            Department department = departmentRepository.findById(taskCreateDto.getDepartmentId())
+            DepartmentSnapshot department = departmentDirectory.findById(taskCreateDto.getDepartmentId())
                     .orElseThrow(() -> new DepartmentNotFoundException("Department not found with Id: " + taskCreateDto.getDepartmentId()));
-            task.setDepartment(department);
+            task.setDepartment(resolveDepartment(department));
         }
 
-        if (taskCreateDto.getAssigneduserIds() != null && !taskCreateDto.getAssigneduserIds().isEmpty()) {
-            Set<User> users = new HashSet<>();
-            for(UUID userId : taskCreateDto.getAssigneduserIds()) {
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
-                users.add(user);
+        task.setAssignedUsers(resolveUsers(taskCreateDto.getAssigneduserIds()));
+        Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask));
+        return savedTask;
+    }
+
+    /**
+     * Creates many tasks in one transaction. Departments and assignees are resolved set-wise up
+     * front, invalid items are reported without aborting the rest, and valid tasks are flushed in
+     * JDBC-batch sized chunks so the persistence context never grows with the request size.
+     */
+    @Transactional
+    public TaskBatchResponseDto createTasks(List<TaskCreateDto> taskCreateDtos) {
+        if (taskCreateDtos.size() > batchMaxItems) {
+            throw new IllegalArgumentException("A batch may contain at most " + batchMaxItems + " tasks");
+        }
+
+        Map<UUID, DepartmentSnapshot> departments = departmentDirectory.findAllById(taskCreateDtos.stream()
+                        .map(TaskCreateDto::getDepartmentId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(DepartmentSnapshot::id, Function.identity()));
+        Map<UUID, UserSnapshot> users = userDirectory.findAllById(taskCreateDtos.stream()
+                        .map(TaskCreateDto::getAssigneduserIds)
+                        .filter(Objects::nonNull)
+                        .flatMap(Set::stream)
+                        .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(UserSnapshot::id, Function.identity()));
+
+        List<TaskBatchItemResultDto> results = new ArrayList<>(taskCreateDtos.size());
+        List<Task> chunk = new ArrayList<>(jdbcBatchSize);
+        List<TaskBatchItemResultDto> chunkResults = new ArrayList<>(jdbcBatchSize);
+        int created = 0;
+
+        for (int index = 0; index < taskCreateDtos.size(); index++) {
+            TaskCreateDto taskCreateDto = taskCreateDtos.get(index);
+            String error = validateBatchItem(taskCreateDto, departments, users);
+            if (error != null) {
+                results.add(new TaskBatchItemResultDto(index, null, false, error));
+                continue;
             }
-            task.setAssignedUsers(users);
-        } else {
-            task.setAssignedUsers(new HashSet<>());
+
+            Task task = new Task();
+            task.setTitle(taskCreateDto.getTitle());
+            task.setDescription(taskCreateDto.getDescription());
+            task.setDueDate(taskCreateDto.getDueDate());
+            task.setStatus(TaskStatus.PENDING);
+            // The batch response carries ids only, so the reference is never initialized
+            task.setDepartment(entityManager.getReference(Department.class, taskCreateDto.getDepartmentId()));
+            if (taskCreateDto.getAssigneduserIds() != null) {
+                for (UUID userId : taskCreateDto.getAssigneduserIds()) {
+                    // A reference is enough for the join row; the chunk's persistence context owns it
+                    task.getAssignedUsers().add(entityManager.getReference(User.class, userId));
+                }
+            }
+            chunk.add(task);
+
+            TaskBatchItemResultDto result = new TaskBatchItemResultDto(index, null, true, null);
+            chunkResults.add(result);
+            results.add(result);
+
+            if (chunk.size() == jdbcBatchSize) {
+                created += flushBatch(chunk, chunkResults);
+            }
+        }
+        created += flushBatch(chunk, chunkResults);
+
+        TaskBatchResponseDto response = new TaskBatchResponseDto();
+        response.setCreated(created);
+        response.setFailed(results.size() - created);
+        response.setResults(results);
+        return response;
+    }
+
+    private String validateBatchItem(TaskCreateDto taskCreateDto, Map<UUID, DepartmentSnapshot> departments,
+                                     Map<UUID, UserSnapshot> users) {
+        if (taskCreateDto.getTitle() == null || taskCreateDto.getTitle().isBlank()) {
+            return "title is required";
+        }
+        if (taskCreateDto.getDueDate() != null && !taskCreateDto.getDueDate().isAfter(LocalDate.now())) {
+            return "Due date should be in the future";
+        }
+        if (taskCreateDto.getDepartmentId() == null) {
+            return "departmentId is required";
+        }
+        if (!departments.containsKey(taskCreateDto.getDepartmentId())) {
+            return "Department not found with id: " + taskCreateDto.getDepartmentId();
+        }
+        if (taskCreateDto.getAssigneduserIds() != null) {
+            List<UUID> missingIds = taskCreateDto.getAssigneduserIds().stream()
+                    .filter(userId -> !users.containsKey(userId))
+                    .collect(Collectors.toList());
+            if (!missingIds.isEmpty()) {
+                return "Users not found with ids: " + missingIds;
+            }
+        }
+        return null;
+    }
+
+    private int flushBatch(List<Task> chunk, List<TaskBatchItemResultDto> chunkResults) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        taskRepository.saveAll(chunk);
+        entityManager.flush();
+        entityManager.clear();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            chunkResults.get(i).setId(chunk.get(i).getId());
+            eventPublisher.publishEvent(TaskChangedEvent.created(chunk.get(i)));
         }
-        return taskRepository.save(task);
+        int flushed = chunk.size();
+        chunk.clear();
+        chunkResults.clear();
+        return flushed;
     }
 
     @Transactional
-    public Task updateTask(UUID id, TaskCreateDto taskDto) {
+    public Task updateTask(UUID id, TaskCreateDto taskDto, Long expectedVersion) {
         Task existingTask = getTaskById(id);
-        
+        checkVersion(existingTask, expectedVersion);
+        TaskStatus previousStatus = existingTask.getStatus();
+        UUID previousDepartmentId = TaskChangedEvent.departmentIdOf(existingTask);
+        Set<UUID> previousAssigneeIds = TaskChangedEvent.assigneeIdsOf(existingTask);
+
         existingTask.setTitle(taskDto.getTitle());
         existingTask.setDescription(taskDto.getDescription());
         existingTask.setDueDate(taskDto.getDueDate());
 
         // Update department
         if (taskDto.getDepartmentId() != null) {
-            Department department = departmentRepository.findById(taskDto.getDepartmentId())
+            DepartmentSnapshot department = departmentDirectory.findById(taskDto.getDepartmentId())
                     .orElseThrow(() -> new DepartmentNotFoundException("Department not found with id: " + taskDto.getDepartmentId()));
-            existingTask.setDepartment(department);
+            existingTask.setDepartment(resolveDepartment(department));
         }
 
         // Update assigned users
         if (taskDto.getAssigneduserIds() != null) {
-            Set<User> users = new HashSet<>();
-            for (UUID userId : taskDto.getAssigneduserIds()) {
-                User user = userRepository.findById(userId)
-                        .orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
-                users.add(user);
-            }
-            existingTask.setAssignedUsers(users);
+            replaceAssignees(existingTask, resolveUsers(taskDto.getAssigneduserIds()));
         }
 
-        return taskRepository.save(existingTask);
+        Task savedTask = taskRepository.save(existingTask);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(savedTask, previousStatus, previousDepartmentId,
+                previousAssigneeIds));
+        return savedTask;
     }
 
+    @Transactional
     public void deleteTask(UUID id) {
         Task task = getTaskById(id);
-        try {
-            taskRepository.delete(task);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to delete task" + e.getMessage());
-        }
+        taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(task));
     }
 
-    public Task markTaskAsCompleted(UUID id) {
+    @Transactional
+    public Task markTaskAsCompleted(UUID id, Long expectedVersion) {
         Task task = getTaskById(id);
+        checkVersion(task, expectedVersion);
         if (task.getStatus() == TaskStatus.COMPLETED) {
             throw new IllegalStateException("Task is already completed");
         }
+        TaskStatus previousStatus = task.getStatus();
 
-        try {
-            task.setStatus(TaskStatus.COMPLETED);
-            return taskRepository.save(task);
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to mark task as completed" + e.getMessage());
-        }
+        task.setStatus(TaskStatus.COMPLETED);
+        Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(savedTask, previousStatus, TaskChangedEvent.departmentIdOf(savedTask)));
+        return savedTask;
     }
 
     @Transactional
-    public Task assignUsersToTask(UUID taskId, Set<UUID> userIds) {
+    public Task assignUsersToTask(UUID taskId, Set<UUID> userIds, Long expectedVersion) {
         Task task = getTaskById(taskId);
-        Set<User> users = new HashSet<>();
-        
-        for (UUID userId : userIds) {
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new UserNotFoundException("User not found with id: " + userId));
-            users.add(user);
-        }
-        
-        task.setAssignedUsers(users);
-        return taskRepository.save(task);
+        checkVersion(task, expectedVersion);
+        Set<UUID> previousAssigneeIds = TaskChangedEvent.assigneeIdsOf(task);
+        replaceAssignees(task, resolveUsers(userIds));
+        Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(savedTask, savedTask.getStatus(),
+                TaskChangedEvent.departmentIdOf(savedTask), previousAssigneeIds));
+        return savedTask;
     }
 
-    public Task assignDepartmentToTask(UUID taskId, UUID departmentId) {
+    @Transactional
+    public Task assignDepartmentToTask(UUID taskId, UUID departmentId, Long expectedVersion) {
         Task task = getTaskById(taskId);
-        Department department = departmentRepository.findById(departmentId)
+        checkVersion(task, expectedVersion);
+        DepartmentSnapshot department = departmentDirectory.findById(departmentId)
                 .orElseThrow(() -> new EntityNotFoundException("Department not found with id: " + departmentId));
-        task.setDepartment(department);
-        return taskRepository.save(task);
+        UUID previousDepartmentId = TaskChangedEvent.departmentIdOf(task);
+        task.setDepartment(resolveDepartment(department));
+        Task savedTask = taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(savedTask, savedTask.getStatus(), previousDepartmentId));
+        return savedTask;
+    }
+
+    /**
+     * Moves many tasks to one status without loading them. Each chunk of up to
+     * {@link #STATUS_UPDATE_CHUNK_SIZE} tasks costs two statements: a locking read of id, status and
+     * department, then one conditional UPDATE that also bumps the version. Completed tasks are final.
+     * At most {@code tasks.batch.max-items} tasks are selected per request.
+     */
+    @Transactional
+    public TaskStatusUpdateResponseDto updateStatuses(TaskStatusUpdateDto request) {
+        if (request.getStatus() == null) {
+            throw new IllegalArgumentException("status is required");
+        }
+        if ((request.getIds() == null) == (request.getFilter() == null)) {
+            throw new IllegalArgumentException("Provide either ids or a filter");
+        }
+
+        TaskStatusUpdateResponseDto response = new TaskStatusUpdateResponseDto();
+        response.setStatus(request.getStatus());
+        if (request.getIds() != null) {
+            updateStatusesById(new ArrayList<>(new LinkedHashSet<>(request.getIds())), request.getStatus(), response);
+        } else {
+            updateStatusesByFilter(request.getFilter(), request.getStatus(), response);
+        }
+        response.setUpdated(response.getUpdatedIds().size());
+        return response;
+    }
+
+    private void updateStatusesById(List<UUID> ids, TaskStatus status, TaskStatusUpdateResponseDto response) {
+        if (ids.size() > batchMaxItems) {
+            throw new IllegalArgumentException("A status update may contain at most " + batchMaxItems + " tasks");
+        }
+
+        for (int from = 0; from < ids.size(); from += STATUS_UPDATE_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + STATUS_UPDATE_CHUNK_SIZE, ids.size()));
+            Map<UUID, TaskStatusRow> rows = taskRepository.lockStatusByIdIn(chunk).stream()
+                    .collect(Collectors.toMap(TaskStatusRow::getId, Function.identity()));
+
+            // Report in request order
+            List<TaskStatusRow> found = new ArrayList<>(rows.size());
+            for (UUID id : chunk) {
+                TaskStatusRow row = rows.get(id);
+                if (row == null) {
+                    response.getNotFoundIds().add(id);
+                } else {
+                    found.add(row);
+                }
+            }
+            applyStatus(found, status, response);
+        }
+    }
+
+    // Matching tasks are walked in keyset order; the filter is narrowed to tasks that can move, so repeating
+    // a request that hit the limit picks up where it stopped.
+    private void updateStatusesByFilter(TaskFilterDto filter, TaskStatus status, TaskStatusUpdateResponseDto response) {
+        validateFilter(filter);
+
+        TaskCursor after = null;
+        int selected = 0;
+        while (true) {
+            int limit = Math.min(STATUS_UPDATE_CHUNK_SIZE, batchMaxItems - selected);
+            if (limit == 0) {
+                response.setHasMore(!lockMovableRows(filter, status, after, 1).isEmpty());
+                return;
+            }
+            List<TaskStatusRow> rows = lockMovableRows(filter, status, after, limit);
+            applyStatus(rows, status, response);
+            selected += rows.size();
+            if (rows.size() < limit) {
+                return;
+            }
+            TaskStatusRow last = rows.get(rows.size() - 1);
+            after = new TaskCursor(last.getCreatedAt(), last.getId());
+        }
+    }
+
+    private List<TaskStatusRow> lockMovableRows(TaskFilterDto filter, TaskStatus status, TaskCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskStatusRow> query = cb.createQuery(TaskStatusRow.class);
+        Root<Task> root = query.from(Task.class);
+        query.select(cb.construct(TaskStatusRow.class,
+                        root.get("id"), root.get("status"), root.get("department").get("id"), root.get("createdAt")))
+                .where(TaskSpecifications.matching(filter, after)
+                        .and(TaskSpecifications.canMoveTo(status))
+                        .toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get("createdAt")), cb.asc(root.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+    }
+
+    private void applyStatus(List<TaskStatusRow> rows, TaskStatus status, TaskStatusUpdateResponseDto response) {
+        List<TaskStatusRow> moving = new ArrayList<>(rows.size());
+        for (TaskStatusRow row : rows) {
+            if (row.getStatus() == TaskStatus.COMPLETED) {
+                response.getAlreadyCompletedIds().add(row.getId());
+            } else if (row.getStatus() == status) {
+                response.getUnchangedIds().add(row.getId());
+            } else {
+                moving.add(row);
+            }
+        }
+        if (moving.isEmpty()) {
+            return;
+        }
+
+        List<UUID> movingIds = moving.stream()
+                .map(TaskStatusRow::getId)
+                .collect(Collectors.toList());
+        taskRepository.updateStatus(movingIds, status, LocalDateTime.now());
+        // Listeners filter by assignee; one query per chunk instead of loading the tasks
+        Map<UUID, Set<UUID>> assigneeIds = taskRepository.findAssigneeIdsByTaskIdIn(movingIds).stream()
+                .collect(Collectors.groupingBy(TaskAssigneeView::getTaskId,
+                        Collectors.mapping(TaskAssigneeView::getUserId, Collectors.toUnmodifiableSet())));
+        for (TaskStatusRow row : moving) {
+            response.getUpdatedIds().add(row.getId());
+            eventPublisher.publishEvent(TaskChangedEvent.statusChanged(row.getId(), row.getDepartmentId(),
+                    assigneeIds.getOrDefault(row.getId(), Set.of()), row.getStatus(), status));
+        }
+    }
+
+    // If-Match: fail before writing when the client's copy is stale. A write racing in after this
+    // check is still caught by the version column when the update is flushed.
+    private void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new TaskVersionMismatchException("Task " + task.getId() + " is at version " + task.getVersion()
+                    + ", expected " + expectedVersion);
+        }
+    }
+
+    // Resolves all ids through the directory (at most one query for the misses) and reports every missing id at once
+    private Set<User> resolveUsers(Set<UUID> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        List<UserSnapshot> users = userDirectory.findAllById(userIds);
+        if (users.size() != userIds.size()) {
+            Set<UUID> foundIds = users.stream()
+                    .map(UserSnapshot::id)
+                    .collect(Collectors.toSet());
+            List<UUID> missingIds = userIds.stream()
+                    .filter(userId -> !foundIds.contains(userId))
+                    .collect(Collectors.toList());
+            throw new UserNotFoundException("Users not found with ids: " + missingIds);
+        }
+        // The directory only vouches that the users exist; the task links to them by reference
+        return users.stream()
+                .map(user -> entityManager.getReference(User.class, user.id()))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    // The directory only vouches that the department exists; the task links to it by reference. The
+    // returned task embeds the department after the session closes, so the reference is initialized
+    // here, from the second-level cache when the region holds it.
+    private Department resolveDepartment(DepartmentSnapshot department) {
+        Department reference = entityManager.getReference(Department.class, department.id());
+        Hibernate.initialize(reference);
+        return reference;
+    }
+
+    // Edits the managed collection in place so Hibernate diffs it against its snapshot and only
+    // inserts/deletes the changed task_assignments rows; swapping in a new Set rewrites them all.
+    private void replaceAssignees(Task task, Set<User> users) {
+        task.getAssignedUsers().retainAll(users);
+        task.getAssignedUsers().addAll(users);
     }
 }
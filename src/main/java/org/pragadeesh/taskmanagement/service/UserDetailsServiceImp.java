@@ -1,21 +1,42 @@
 package org.pragadeesh.taskmanagement.service;
 
 import lombok.RequiredArgsConstructor;
+import org.pragadeesh.taskmanagement.datasource.ReadWriteRoutingDataSource;
+import org.pragadeesh.taskmanagement.model.User;
 import org.pragadeesh.taskmanagement.repository.UserRepository;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImp implements UserDetailsService {
+public class UserDetailsServiceImp implements UserDetailsService, UserDetailsPasswordService {
 
+    private final UserDirectory userDirectory;
     private final UserRepository userRepository;
 
+    // Login path: the password hash is only ever read here, from the primary, and never cached
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
+        return ReadWriteRoutingDataSource.onPrimary(() -> userRepository.findByUsername(username))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
     }
+
+    // Bearer-token path: every authenticated request resolves its user here, so it goes through the directory
+    public UserDetails loadCachedUserByUsername(String username) throws UsernameNotFoundException {
+        return userDirectory.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+    }
+
+    // Called by the authentication provider after a successful login whose stored hash has another work factor
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        User stored = userRepository.findByUsername(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + user.getUsername()));
+        stored.setPassword(newPassword);
+        // The directory does not hold password hashes, so there is nothing to evict
+        return userRepository.save(stored);
+    }
 }
@@ -0,0 +1,138 @@
+package org.pragadeesh.taskmanagement.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.pragadeesh.taskmanagement.datasource.ReadWriteRoutingDataSource;
+import org.pragadeesh.taskmanagement.model.User;
+import org.pragadeesh.taskmanagement.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * In-process cache of user records shared by authentication and task assignment. The database
+ * only sees user lookups on a miss; entries expire after a TTL and are evicted on writes that
+ * change a user's identity, role or department. Misses are read from the primary, so a lagging
+ * replica cannot pin an old row for a whole TTL.
+ * <p>
+ * Entries are immutable {@link UserSnapshot}s rather than the entities they were read from, so
+ * the password hash is not kept in memory and no request can modify what another one sees.
+ */
+@Service
+public class UserDirectory {
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, UserSnapshot> usersById;
+    private final Cache<String, UserSnapshot> usersByUsername;
+
+    public UserDirectory(UserRepository userRepository,
+                         @Value("${users.cache.max-size:10000}") long maxSize,
+                         @Value("${users.cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.usersById = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.usersByUsername = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<UserSnapshot> findByUsername(String username) {
+        UserSnapshot cached = usersByUsername.getIfPresent(username);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<UserSnapshot> user = ReadWriteRoutingDataSource
+                .onPrimary(() -> userRepository.findByUsername(username))
+                .map(UserSnapshot::of);
+        user.ifPresent(this::put);
+        return user;
+    }
+
+    public Optional<UserSnapshot> findById(UUID id) {
+        UserSnapshot cached = usersById.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<UserSnapshot> user = ReadWriteRoutingDataSource.onPrimary(() -> userRepository.findById(id))
+                .map(UserSnapshot::of);
+        user.ifPresent(this::put);
+        return user;
+    }
+
+    /**
+     * Returns the users that exist among {@code ids}; cache misses are loaded with a single query.
+     */
+    public List<UserSnapshot> findAllById(Collection<UUID> ids) {
+        List<UserSnapshot> users = new ArrayList<>(ids.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            UserSnapshot cached = usersById.getIfPresent(id);
+            if (cached != null) {
+                users.add(cached);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (User user : ReadWriteRoutingDataSource.onPrimary(() -> userRepository.findAllById(missing))) {
+                UserSnapshot snapshot = UserSnapshot.of(user);
+                put(snapshot);
+                users.add(snapshot);
+            }
+        }
+        return users;
+    }
+
+    // Also drops the username the cached entry was stored under, in case the write renamed the user
+    public void evict(User user) {
+        if (user.getId() != null) {
+            UserSnapshot cached = usersById.asMap().remove(user.getId());
+            if (cached != null) {
+                usersByUsername.invalidate(cached.username());
+            }
+        }
+        if (user.getUsername() != null) {
+            usersByUsername.invalidate(user.getUsername());
+        }
+    }
+
+    // Department changes are rare and fan out to every member, so they drop the whole directory
+    public void evictAll() {
+        usersById.invalidateAll();
+        usersByUsername.invalidateAll();
+    }
+
+    public Cache<UUID, UserSnapshot> getUsersById() {
+        return usersById;
+    }
+
+    public Cache<String, UserSnapshot> getUsersByUsername() {
+        return usersByUsername;
+    }
+
+    public CacheStats getByIdStats() {
+        return usersById.stats();
+    }
+
+    public CacheStats getByUsernameStats() {
+        return usersByUsername.stats();
+    }
+
+    private void put(UserSnapshot user) {
+        usersById.put(user.id(), user);
+        usersByUsername.put(user.username(), user);
+    }
+}
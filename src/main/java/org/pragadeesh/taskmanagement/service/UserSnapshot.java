@@ -0,0 +1,40 @@
+package org.pragadeesh.taskmanagement.service;
+
+import org.pragadeesh.taskmanagement.model.Role;
+import org.pragadeesh.taskmanagement.model.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The parts of a user that {@link UserDirectory} caches: enough to authenticate a bearer token
+ * and to check assignees, without the password hash or a live entity that requests could change
+ * under each other. It is the principal of JWT-authenticated requests.
+ */
+public record UserSnapshot(UUID id, String username, Role role, UUID departmentId) implements UserDetails {
+
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(user.getId(), user.getUsername(), user.getRole(),
+                user.getDepartment() == null ? null : user.getDepartment().getId());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    // Never cached; the login path reads the hash from the database
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+}
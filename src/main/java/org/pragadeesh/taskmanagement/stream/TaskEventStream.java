@@ -0,0 +1,217 @@
+package org.pragadeesh.taskmanagement.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.pragadeesh.taskmanagement.Exception.TaskStreamUnavailableException;
+import org.pragadeesh.taskmanagement.dto.TaskStreamEventDto;
+import org.pragadeesh.taskmanagement.event.TaskChangedEvent;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes committed task changes to Server-Sent Events subscribers.
+ * <p>
+ * Streams are plain async servlet responses, so an idle subscriber costs its queue and an open
+ * socket but no thread. Each change is serialized once on the committing thread and offered to the
+ * queue of every matching subscriber without blocking; a small sender pool does the writes. A
+ * subscriber whose queue is full, or whose write stalls past {@code tasks.stream.send-timeout}, is
+ * not keeping up and is disconnected, so slow clients never delay the others or grow memory.
+ * Clients reconnect and re-read what they missed.
+ * <p>
+ * Streams never end on their own, so they are closed when shutdown begins, before the web server
+ * waits for in-flight requests.
+ */
+@Component
+public class TaskEventStream implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskEventStream.class);
+    private static final TaskStreamSubscriber.Message HEARTBEAT = TaskStreamSubscriber.Message.comment("heartbeat");
+
+    private final Set<TaskStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ObjectMapper objectMapper;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final TaskStreamSender sender;
+    private final ScheduledExecutorService heartbeat;
+    private final long heartbeatMillis;
+    private final Counter eventsCounter;
+    private final Counter evictedCounter;
+    private volatile boolean running;
+
+    public TaskEventStream(ObjectMapper objectMapper,
+                           MeterRegistry meterRegistry,
+                           @Value("${tasks.stream.buffer-size:256}") int bufferSize,
+                           @Value("${tasks.stream.max-subscribers:20000}") int maxSubscribers,
+                           @Value("${tasks.stream.sender-threads:4}") int senderThreads,
+                           @Value("${tasks.stream.heartbeat:30s}") Duration heartbeatInterval,
+                           @Value("${tasks.stream.send-timeout:5s}") Duration sendTimeout) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.sender = new TaskStreamSender(senderThreads, sendTimeout);
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "task-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.heartbeatMillis = heartbeatInterval.toMillis();
+
+        Gauge.builder("tasks.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open task event streams")
+                .register(meterRegistry);
+        this.eventsCounter = Counter.builder("tasks.stream.events")
+                .description("Task changes published to the event stream")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("tasks.stream.evicted")
+                .description("Subscribers disconnected because their buffer was full or a write stalled")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers {@code emitter} for changes matching the filters; {@code null} matches everything.
+     * Over {@code tasks.stream.max-subscribers} the request is refused rather than queued.
+     */
+    public SseEmitter subscribe(SseEmitter emitter, UUID departmentId, UUID assigneeId) {
+        if (!running) {
+            throw new TaskStreamUnavailableException("Task streams are shutting down");
+        }
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new TaskStreamUnavailableException("Task stream limit of " + maxSubscribers + " reached");
+        }
+        TaskStreamSubscriber subscriber = new TaskStreamSubscriber(emitter, departmentId, assigneeId, bufferSize, sender,
+                this::evictStalled);
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> {
+            remove(subscriber);
+            subscriber.close();
+        });
+        emitter.onError(e -> remove(subscriber));
+        // Flushes the response headers now, so the client sees the stream open before any change
+        subscriber.offer(TaskStreamSubscriber.Message.comment("subscribed"));
+        return emitter;
+    }
+
+    // After commit, like the other listeners; rolled back changes are never streamed
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        eventsCounter.increment();
+        TaskStreamSubscriber.Message message;
+        try {
+            message = TaskStreamSubscriber.Message.event(eventName(event), objectMapper.writeValueAsString(toDto(event)));
+        } catch (JsonProcessingException e) {
+            logger.warn("Could not serialize {} event for task {}", event.getType(), event.getTaskId(), e);
+            return;
+        }
+        for (TaskStreamSubscriber subscriber : subscribers) {
+            if (subscriber.matches(event)) {
+                deliver(subscriber, message);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    // Keeps proxies from closing idle streams and surfaces dead connections on the next write
+    void sendHeartbeat() {
+        for (TaskStreamSubscriber subscriber : subscribers) {
+            deliver(subscriber, HEARTBEAT);
+        }
+    }
+
+    private void deliver(TaskStreamSubscriber subscriber, TaskStreamSubscriber.Message message) {
+        if (subscriber.isClosed()) {
+            remove(subscriber);
+        } else if (!subscriber.offer(message) && remove(subscriber)) {
+            evictedCounter.increment();
+            subscriber.close();
+            logger.debug("Evicted task stream subscriber with {} undelivered events", bufferSize);
+        }
+    }
+
+    private void evictStalled(TaskStreamSubscriber subscriber) {
+        if (remove(subscriber)) {
+            evictedCounter.increment();
+            logger.debug("Evicted task stream subscriber whose write stalled");
+        }
+    }
+
+    private boolean remove(TaskStreamSubscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void start() {
+        heartbeat.scheduleAtFixedRate(this::sendHeartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    // Default phase: stops ahead of the web server's graceful shutdown, which would otherwise wait on every stream
+    @Override
+    public void stop() {
+        running = false;
+        heartbeat.shutdownNow();
+        for (TaskStreamSubscriber subscriber : subscribers) {
+            remove(subscriber);
+            subscriber.close();
+        }
+        // Lets the queued drains complete their emitters
+        sender.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    static String eventName(TaskChangedEvent event) {
+        return switch (event.getType()) {
+            case CREATED -> "task.created";
+            case DELETED -> "task.deleted";
+            case UPDATED -> event.getStatus() == TaskStatus.COMPLETED && event.getPreviousStatus() != TaskStatus.COMPLETED
+                    ? "task.completed"
+                    : "task.updated";
+        };
+    }
+
+    private static TaskStreamEventDto toDto(TaskChangedEvent event) {
+        TaskStreamEventDto dto = new TaskStreamEventDto();
+        dto.setTaskId(event.getTaskId());
+        dto.setTitle(event.getTitle());
+        dto.setStatus(event.getStatus());
+        dto.setPreviousStatus(event.getPreviousStatus());
+        dto.setDepartmentId(event.getDepartmentId());
+        dto.setPreviousDepartmentId(event.getPreviousDepartmentId());
+        dto.setAssigneeIds(event.getAssigneeIds());
+        return dto;
+    }
+}
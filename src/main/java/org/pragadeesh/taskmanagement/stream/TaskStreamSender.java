@@ -0,0 +1,87 @@
+package org.pragadeesh.taskmanagement.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs subscriber drains on a small fixed pool and bounds every write with a timeout.
+ * <p>
+ * A servlet write blocks for as long as the client's TCP window stays closed. So the write itself
+ * runs on a separate writer thread while the drain waits at most {@code sendTimeout} for it. A
+ * write that takes longer counts as a stalled client: the drain gives up on the subscriber and
+ * its pool thread moves on to the other subscribers. The abandoned write keeps a writer thread
+ * until the connector's own write timeout fails it. Writer threads are therefore bounded by the
+ * number of clients that stalled within that window, not by the number of subscribers.
+ */
+class TaskStreamSender {
+
+    private final ExecutorService drains;
+    private final ExecutorService writes;
+    private final long sendTimeoutMillis;
+
+    TaskStreamSender(int drainThreads, Duration sendTimeout) {
+        AtomicInteger senderIds = new AtomicInteger();
+        this.drains = Executors.newFixedThreadPool(drainThreads, runnable -> {
+            Thread thread = new Thread(runnable, "task-stream-sender-" + senderIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger writerIds = new AtomicInteger();
+        this.writes = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "task-stream-writer-" + writerIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sendTimeoutMillis = sendTimeout.toMillis();
+    }
+
+    void execute(Runnable drain) {
+        drains.execute(drain);
+    }
+
+    /**
+     * Writes {@code event} and returns {@code false} if the write did not finish within the send
+     * timeout. The write is then left to fail on its own; it is interrupted, which aborts it where
+     * the connector allows.
+     */
+    boolean send(SseEmitter emitter, SseEmitter.SseEventBuilder event) throws IOException {
+        Future<?> write = writes.submit(() -> {
+            emitter.send(event);
+            return null;
+        });
+        try {
+            write.get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            write.cancel(true);
+            return false;
+        } catch (InterruptedException e) {
+            write.cancel(true);
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Lets queued drains finish; writes still blocked on a dead client are not waited for
+    void shutdown() {
+        drains.shutdown();
+        writes.shutdown();
+    }
+}
@@ -0,0 +1,148 @@
+package org.pragadeesh.taskmanagement.stream;
+
+import org.pragadeesh.taskmanagement.event.TaskChangedEvent;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * One open stream: its filter, a bounded queue of events not yet written and the emitter they are
+ * written to. Publishers only ever {@link #offer} (never block); a single drain at a time, run on
+ * the sender pool, does the socket writes. A write that outlasts the send timeout marks the
+ * client as stalled, and the subscriber is dropped without tying up the drain's thread.
+ */
+class TaskStreamSubscriber {
+
+    private final SseEmitter emitter;
+    private final UUID departmentId;
+    private final UUID assigneeId;
+    private final BlockingQueue<Message> queue;
+    private final TaskStreamSender sender;
+    private final Consumer<TaskStreamSubscriber> onStall;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+
+    TaskStreamSubscriber(SseEmitter emitter, UUID departmentId, UUID assigneeId, int bufferSize,
+                         TaskStreamSender sender, Consumer<TaskStreamSubscriber> onStall) {
+        this.emitter = emitter;
+        this.departmentId = departmentId;
+        this.assigneeId = assigneeId;
+        this.queue = new ArrayBlockingQueue<>(bufferSize);
+        this.sender = sender;
+        this.onStall = onStall;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    // Moving a task out of a department or off an assignee is news to that subscriber too
+    boolean matches(TaskChangedEvent event) {
+        if (departmentId != null
+                && !departmentId.equals(event.getDepartmentId())
+                && !departmentId.equals(event.getPreviousDepartmentId())) {
+            return false;
+        }
+        return assigneeId == null
+                || event.getAssigneeIds().contains(assigneeId)
+                || event.getPreviousAssigneeIds().contains(assigneeId);
+    }
+
+    /**
+     * Queues {@code event} for sending and returns {@code false} if the buffer is full, in which
+     * case the caller evicts this subscriber.
+     */
+    boolean offer(Message message) {
+        if (closed || !queue.offer(message)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * Ends the stream once the send in progress, if any, returns. Completing from the caller's
+     * thread would wait on the emitter's lock behind that send.
+     */
+    void close() {
+        closed = true;
+        scheduleDrain();
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            sender.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                if (closed) {
+                    queue.clear();
+                    emitter.complete();
+                    return;
+                }
+                Message message = queue.poll();
+                if (message == null) {
+                    draining.set(false);
+                    // Re-check: an offer between poll and set saw draining=true and did not schedule
+                    if ((queue.isEmpty() && !closed) || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                if (!sender.send(emitter, message.toEvent())) {
+                    // The stalled write still holds the emitter, so it is not completed here; the
+                    // write fails on the connector's timeout and the container ends the request
+                    closed = true;
+                    queue.clear();
+                    onStall.accept(this);
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed; the container's error callback
+            // unregisters us and publishers skip closed subscribers until then
+            closed = true;
+            queue.clear();
+        } catch (RuntimeException e) {
+            // Anything else would leave draining set and the stream silently dead; end it instead
+            closed = true;
+            queue.clear();
+            emitter.completeWithError(e);
+        }
+    }
+
+    /**
+     * What to send, shared by every subscriber a change is delivered to. SSE event builders keep
+     * state across {@code build()} calls, so each send creates its own from this.
+     */
+    record Message(String name, String data, String comment) {
+
+        static Message event(String name, String json) {
+            return new Message(name, json, null);
+        }
+
+        static Message comment(String comment) {
+            return new Message(null, null, comment);
+        }
+
+        SseEmitter.SseEventBuilder toEvent() {
+            if (comment != null) {
+                return SseEmitter.event().comment(comment);
+            }
+            return SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.pragadeesh.taskmanagement.summary;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.pragadeesh.taskmanagement.datasource.ReadWriteRoutingDataSource;
+import org.pragadeesh.taskmanagement.event.TaskChangedEvent;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Keeps {@link TaskCounts} in sync with the database: every committed task change is applied as
+ * it happens, and a periodic GROUP BY corrects whatever the incremental path missed (writes made
+ * outside TaskService, events lost to a crash, events delivered after the query they raced with).
+ */
+@Component
+public class TaskCountReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCountReconciler.class);
+
+    private final TaskCounts counts;
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter driftCounter;
+
+    public TaskCountReconciler(TaskCounts counts, TaskRepository taskRepository,
+                               PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.counts = counts;
+        this.taskRepository = taskRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.driftCounter = Counter.builder("tasks.summary.drift")
+                .description("Task counts corrected by reconciliation")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${tasks.summary.reconcile-interval:PT5M}",
+            fixedDelayString = "${tasks.summary.reconcile-interval:PT5M}")
+    public void reconcile() {
+        // Counted on the primary: the counters follow committed writes there, not the replica's lag
+        long drift = counts.reconcile(() -> ReadWriteRoutingDataSource.onPrimary(
+                () -> readOnlyTransaction.execute(status -> taskRepository.countByDepartmentAndStatus())));
+        if (drift > 0) {
+            driftCounter.increment(drift);
+            logger.info("Task summary reconciled, corrected {} counts", drift);
+        }
+    }
+
+    // Same delivery rules as the search index: only committed writes, including non-transactional ones
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        counts.apply(event);
+    }
+}
@@ -0,0 +1,133 @@
+package org.pragadeesh.taskmanagement.summary;
+
+import org.pragadeesh.taskmanagement.event.TaskChangedEvent;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.pragadeesh.taskmanagement.repository.TaskCountView;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Number of tasks per department and status, kept in memory so the summary endpoint never scans
+ * the tasks table. Writers only ever touch {@link LongAdder}s, so concurrent task writes do not
+ * contend on a shared counter or lock; readers sum the cells of one department at a time.
+ * <p>
+ * Every applied change also bumps its department's generation. Reconciliation compares the
+ * generation from before its query with the one after, and leaves a department alone when a
+ * change was applied in between, because the counters may then hold a write the query missed.
+ */
+@Component
+public class TaskCounts {
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private final Map<UUID, Buckets> byDepartment = new ConcurrentHashMap<>();
+
+    public void apply(TaskChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> add(event.getDepartmentId(), event.getStatus(), 1);
+            case DELETED -> add(event.getPreviousDepartmentId(), event.getPreviousStatus(), -1);
+            case UPDATED -> {
+                if (event.getStatus() == event.getPreviousStatus()
+                        && Objects.equals(event.getDepartmentId(), event.getPreviousDepartmentId())) {
+                    return;
+                }
+                add(event.getPreviousDepartmentId(), event.getPreviousStatus(), -1);
+                add(event.getDepartmentId(), event.getStatus(), 1);
+            }
+        }
+    }
+
+    /**
+     * Replaces the counts with the totals the query returns and returns how far the counters had
+     * drifted, as the sum of the absolute differences over every bucket. Departments changed while
+     * the query ran keep their counters; the next pass corrects them.
+     */
+    public long reconcile(Supplier<List<TaskCountView>> query) {
+        Map<UUID, Long> generationsBefore = new HashMap<>();
+        byDepartment.forEach((departmentId, buckets) -> generationsBefore.put(departmentId, buckets.generation.sum()));
+
+        Map<UUID, long[]> expected = new HashMap<>();
+        for (TaskCountView row : query.get()) {
+            expected.computeIfAbsent(row.getDepartmentId(), id -> new long[STATUSES.length])
+                    [row.getStatus().ordinal()] = row.getCount();
+        }
+
+        // Departments that no longer have any task are brought back to zero
+        for (UUID departmentId : byDepartment.keySet()) {
+            expected.putIfAbsent(departmentId, new long[STATUSES.length]);
+        }
+
+        long drift = 0;
+        for (Map.Entry<UUID, long[]> entry : expected.entrySet()) {
+            Buckets buckets = buckets(entry.getKey());
+            long[] differences = new long[STATUSES.length];
+            for (int i = 0; i < STATUSES.length; i++) {
+                differences[i] = entry.getValue()[i] - buckets.counts[i].sum();
+            }
+            // Checked after reading the sums, so a change that reached them is always noticed
+            if (buckets.generation.sum() != generationsBefore.getOrDefault(entry.getKey(), 0L)) {
+                continue;
+            }
+            // Adjust by the difference rather than reset, so changes applied from here on are kept
+            for (int i = 0; i < STATUSES.length; i++) {
+                buckets.counts[i].add(differences[i]);
+                drift += Math.abs(differences[i]);
+            }
+        }
+        return drift;
+    }
+
+    /**
+     * Counts of one department by status; every status is present, departments without tasks get zeros.
+     */
+    public Map<TaskStatus, Long> get(UUID departmentId) {
+        Buckets buckets = byDepartment.get(departmentId);
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : STATUSES) {
+            // A bucket can dip below zero for a moment when a delete is applied before a racing reconcile
+            counts.put(status, buckets == null ? 0L : Math.max(0L, buckets.counts[status.ordinal()].sum()));
+        }
+        return counts;
+    }
+
+    public long total(UUID departmentId) {
+        return get(departmentId).values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private void add(UUID departmentId, TaskStatus status, long delta) {
+        // Tasks without a department are not part of any department's summary
+        if (departmentId == null || status == null) {
+            return;
+        }
+        Buckets buckets = buckets(departmentId);
+        buckets.counts[status.ordinal()].add(delta);
+        buckets.generation.increment();
+    }
+
+    private Buckets buckets(UUID departmentId) {
+        return byDepartment.computeIfAbsent(departmentId, id -> new Buckets());
+    }
+
+    private static final class Buckets {
+
+        // One adder per status, indexed by ordinal
+        private final LongAdder[] counts = new LongAdder[STATUSES.length];
+        // Only ever incremented, so two equal sums mean no change completed in between
+        private final LongAdder generation = new LongAdder();
+
+        private Buckets() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.pragadeesh.taskmanagement.summary;
+
+import lombok.RequiredArgsConstructor;
+import org.pragadeesh.taskmanagement.dto.DepartmentTaskSummaryDto;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TaskSummaryService {
+
+    private final TaskCounts counts;
+    private final DepartmentDirectory departmentDirectory;
+
+    /**
+     * Task counts of every department, read from the in-memory counters. The department list comes
+     * from the directory, so a poll usually runs no query and its cost grows with departments, not tasks.
+     */
+    public List<DepartmentTaskSummaryDto> getSummary() {
+        return departmentDirectory.findAll().stream()
+                .map(department -> {
+                    Map<TaskStatus, Long> byStatus = counts.get(department.id());
+                    DepartmentTaskSummaryDto dto = new DepartmentTaskSummaryDto();
+                    dto.setDepartmentId(department.id());
+                    dto.setDepartmentName(department.name());
+                    dto.setCountsByStatus(byStatus);
+                    dto.setTotal(byStatus.values().stream().mapToLong(Long::longValue).sum());
+                    return dto;
+                })
+                .collect(Collectors.toList());
+    }
+}
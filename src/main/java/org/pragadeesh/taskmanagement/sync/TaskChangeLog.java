@@ -0,0 +1,167 @@
+package org.pragadeesh.taskmanagement.sync;
+
+import jakarta.persistence.EntityManager;
+import org.pragadeesh.taskmanagement.event.TaskChangedEvent;
+import org.pragadeesh.taskmanagement.util.UuidBytes;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Stamps every task write with a position in one commit-ordered change sequence, the basis of
+ * {@code GET /tasks/changes}. Changed tasks get the new value in {@code tasks.change_seq}; deleted
+ * tasks leave a row in {@code task_tombstones}.
+ * <p>
+ * The value comes from a single-row counter that is incremented as the last statement before
+ * commit and stays locked until the commit. Transactions therefore commit in sequence order, and a
+ * reader that has seen sequence {@code n} has seen everything below it; a DB sequence or a
+ * timestamp could hand out {@code n} to a transaction that commits after {@code n + 1}. Since the
+ * counter is the last lock taken, it is held only for the stamping statements and the commit.
+ */
+@Component
+public class TaskChangeLog {
+
+    // Ids per stamping UPDATE, like the bulk status change
+    private static final int STAMP_CHUNK_SIZE = 500;
+
+    private static final String INCREMENT = "UPDATE task_change_sequence SET last_seq = last_seq + ? WHERE id = 1";
+    private static final String INSERT_COUNTER = "INSERT INTO task_change_sequence (id, last_seq) VALUES (1, ?)";
+    private static final String READ_COUNTER = "SELECT last_seq FROM task_change_sequence WHERE id = 1";
+    private static final String INSERT_TOMBSTONE =
+            "INSERT INTO task_tombstones (task_id, change_seq, deleted_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+
+    public TaskChangeLog(JdbcTemplate jdbcTemplate, EntityManager entityManager,
+                         PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    // Runs inside the writing transaction, unlike the after-commit listeners
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            pendingChanges().add(event);
+            return;
+        }
+        // The write has already committed on its own; stamp it right away, locking its row first
+        // so locks are taken in the same order as in a transaction
+        PendingChanges changes = new PendingChanges();
+        changes.add(event);
+        transaction.executeWithoutResult(status -> {
+            lockTasks(changes.changed);
+            stamp(changes);
+        });
+    }
+
+    private PendingChanges pendingChanges() {
+        PendingChanges changes = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            changes = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(changes);
+        }
+        return changes;
+    }
+
+    // Tasks and tombstones of one transaction get separate values, so a (change_seq, id) cursor
+    // never has to order rows of the two tables against each other
+    private void stamp(PendingChanges changes) {
+        int values = (changes.changed.isEmpty() ? 0 : 1) + (changes.deleted.isEmpty() ? 0 : 1);
+        if (values == 0) {
+            return;
+        }
+        long last = advance(values);
+
+        if (!changes.changed.isEmpty()) {
+            long changeSeq = last - values + 1;
+            List<UUID> ids = new ArrayList<>(changes.changed);
+            for (int from = 0; from < ids.size(); from += STAMP_CHUNK_SIZE) {
+                List<UUID> chunk = ids.subList(from, Math.min(from + STAMP_CHUNK_SIZE, ids.size()));
+                List<Object> args = new ArrayList<>(chunk.size() + 1);
+                args.add(changeSeq);
+                chunk.forEach(id -> args.add(UuidBytes.toBytes(id)));
+                jdbcTemplate.update("UPDATE tasks SET change_seq = ? WHERE id IN (" + placeholders(chunk.size()) + ")",
+                        args.toArray());
+            }
+        }
+        if (!changes.deleted.isEmpty()) {
+            Timestamp deletedAt = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>(changes.deleted.size());
+            changes.deleted.forEach(id -> rows.add(new Object[]{UuidBytes.toBytes(id), last, deletedAt}));
+            jdbcTemplate.batchUpdate(INSERT_TOMBSTONE, rows);
+        }
+    }
+
+    // Reserves count values and returns the highest; the counter row stays locked until commit
+    private long advance(int count) {
+        if (jdbcTemplate.update(INCREMENT, count) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_COUNTER, count);
+                return count;
+            } catch (DuplicateKeyException e) {
+                // Another transaction created the row first
+                jdbcTemplate.update(INCREMENT, count);
+            }
+        }
+        return jdbcTemplate.queryForObject(READ_COUNTER, Long.class);
+    }
+
+    private void lockTasks(Set<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.queryForList("SELECT id FROM tasks WHERE id IN (" + placeholders(ids.size()) + ") FOR UPDATE",
+                ids.stream().map(UuidBytes::toBytes).toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    // Task ids written by one transaction, stamped once in beforeCommit
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final Set<UUID> changed = new LinkedHashSet<>();
+        private final Set<UUID> deleted = new LinkedHashSet<>();
+
+        void add(TaskChangedEvent event) {
+            if (event.getType() == TaskChangedEvent.Type.DELETED) {
+                changed.remove(event.getTaskId());
+                deleted.add(event.getTaskId());
+            } else {
+                changed.add(event.getTaskId());
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // Inserts and updates must reach the rows before they can be stamped
+            entityManager.flush();
+            stamp(this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TaskChangeLog.this);
+        }
+    }
+}
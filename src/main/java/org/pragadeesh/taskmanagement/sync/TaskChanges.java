@@ -0,0 +1,23 @@
+package org.pragadeesh.taskmanagement.sync;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskTombstone;
+import org.pragadeesh.taskmanagement.util.TaskChangeCursor;
+
+import java.util.List;
+
+/**
+ * One page of the change feed: current state of the changed tasks, tombstones of the deleted ones,
+ * and where to continue.
+ */
+@Getter
+@RequiredArgsConstructor
+public class TaskChanges {
+
+    private final List<Task> changed;
+    private final List<TaskTombstone> deleted;
+    private final TaskChangeCursor next;
+    private final boolean hasMore;
+}
@@ -0,0 +1,56 @@
+package org.pragadeesh.taskmanagement.sync;
+
+import lombok.RequiredArgsConstructor;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskTombstone;
+import org.pragadeesh.taskmanagement.repository.TaskTombstoneRepository;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.util.TaskChangeCursor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class TaskChangesService {
+
+    private final TaskService taskService;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+
+    /**
+     * Up to {@code limit} changes after {@code after}: tasks in their current state and tombstones of
+     * deleted tasks, merged in change order. A task changed several times appears once, at its latest
+     * change. Both reads share one transaction, so they see the same snapshot, and the cost is two
+     * index range scans of at most {@code limit + 1} rows, however large the tables are.
+     */
+    @Transactional(readOnly = true)
+    public TaskChanges getChanges(TaskChangeCursor after, int limit) {
+        List<Task> tasks = taskService.getChangedTasks(after, limit + 1);
+        List<TaskTombstone> tombstones = taskTombstoneRepository.findChangedAfter(
+                after.getChangeSeq(), after.getId(), Limit.of(limit + 1));
+
+        // TaskChangeLog never gives a task and a tombstone the same changeSeq, so merging on it is enough
+        List<Task> changed = new ArrayList<>();
+        List<TaskTombstone> deleted = new ArrayList<>();
+        TaskChangeCursor next = after;
+        int t = 0;
+        int d = 0;
+        while (changed.size() + deleted.size() < limit && (t < tasks.size() || d < tombstones.size())) {
+            if (d == tombstones.size()
+                    || (t < tasks.size() && tasks.get(t).getChangeSeq() < tombstones.get(d).getChangeSeq())) {
+                Task task = tasks.get(t++);
+                changed.add(task);
+                next = TaskChangeCursor.of(task);
+            } else {
+                TaskTombstone tombstone = tombstones.get(d++);
+                deleted.add(tombstone);
+                next = TaskChangeCursor.of(tombstone);
+            }
+        }
+        boolean hasMore = t < tasks.size() || d < tombstones.size();
+        return new TaskChanges(changed, deleted, next, hasMore);
+    }
+}
@@ -0,0 +1,79 @@
+package org.pragadeesh.taskmanagement.util;
+
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.User;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+/**
+ * RFC 4180 CSV with a header row. Assignees are flattened into one column of ';'-separated user ids.
+ */
+public class CsvTaskExportWriter implements TaskExportWriter {
+
+    static final String HEADER = "id,title,description,status,due_date,department_id,department_name," +
+            "assigned_user_ids,created_at,updated_at";
+
+    private final Writer out;
+
+    public CsvTaskExportWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        try {
+            this.out.write(HEADER);
+            this.out.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void write(Task task) {
+        try {
+            field(task.getId(), false);
+            field(task.getTitle(), true);
+            field(task.getDescription(), true);
+            field(task.getStatus(), true);
+            field(task.getDueDate(), true);
+            field(task.getDepartment() == null ? null : task.getDepartment().getId(), true);
+            field(task.getDepartment() == null ? null : task.getDepartment().getName(), true);
+            field(task.getAssignedUsers().stream()
+                    .map(User::getId)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(";")), true);
+            field(task.getCreatedAt(), true);
+            field(task.getUpdatedAt(), true);
+            out.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void field(Object value, boolean separator) throws IOException {
+        if (separator) {
+            out.write(',');
+        }
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            out.write(text);
+            return;
+        }
+        out.write('"');
+        out.write(text.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Flush only: the servlet container owns the response stream
+        out.flush();
+    }
+}
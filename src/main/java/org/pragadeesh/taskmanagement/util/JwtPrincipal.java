@@ -0,0 +1,25 @@
+package org.pragadeesh.taskmanagement.util;
+
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Result of a successful token verification: the subject and the instant the token stops being valid.
+ */
+@Getter
+public class JwtPrincipal {
+
+    private final String username;
+    private final Instant expiresAt;
+
+    public JwtPrincipal(String username, Instant expiresAt) {
+        this.username = Objects.requireNonNull(username, "username cannot be null");
+        this.expiresAt = Objects.requireNonNull(expiresAt, "expiresAt cannot be null");
+    }
+
+    public boolean isExpired() {
+        return !Instant.now().isBefore(expiresAt);
+    }
+}
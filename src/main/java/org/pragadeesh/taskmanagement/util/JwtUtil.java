@@ -1,14 +1,26 @@
 package org.pragadeesh.taskmanagement.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.function.Function;
 
@@ -18,25 +30,77 @@ public class JwtUtil {
     @Value("${secret_key}")
     private String SECRET_KEY ;
 
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // Verified tokens keyed by SHA-256 digest, each entry evicted at the token's own exp
+    private Cache<String, JwtPrincipal> verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET_KEY));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .recordStats()
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+                        return Math.max(0, Duration.between(Instant.now(), principal.getExpiresAt()).toNanos());
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
     public String generateToken(UserDetails userDetails) {
         return Jwts
                 .builder()
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + 8400000))
-                .signWith(getSigninKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    private SecretKey getSigninKey() {
-        byte[] keyBytes = Decoders.BASE64URL.decode(SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+    /**
+     * Parses and verifies the token once and returns its principal. Tokens that were verified
+     * before are served from the cache until they expire.
+     *
+     * @throws JwtException if the token is malformed, has a bad signature or is expired
+     */
+    public JwtPrincipal validateToken(String token) {
+        String digest = digest(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
+        Claims claims = extractAllClaims(token);
+        if (claims.getSubject() == null || claims.getExpiration() == null) {
+            throw new JwtException("Token must carry a subject and an expiration");
+        }
+        JwtPrincipal principal = new JwtPrincipal(claims.getSubject(), claims.getExpiration().toInstant());
+        verifiedTokens.put(digest, principal);
+        return principal;
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigninKey())
-                .build()
+        return parser
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -47,19 +111,32 @@ public class JwtUtil {
     }
 
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return validateToken(token).getUsername();
     }
 
     public boolean isValid(String token, UserDetails user) {
-        String username = extractUsername(token);
-        return (username.equals(user.getUsername()) && !isTokenExpired(token));
+        JwtPrincipal principal = validateToken(token);
+        return principal.getUsername().equals(user.getUsername()) && !principal.isExpired();
     }
 
     public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return validateToken(token).isExpired();
     }
 
     public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return Date.from(validateToken(token).getExpiresAt());
+    }
+
+    public Cache<String, JwtPrincipal> getVerifiedTokens() {
+        return verifiedTokens;
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
     }
 }
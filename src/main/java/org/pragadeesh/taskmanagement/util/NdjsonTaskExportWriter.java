@@ -0,0 +1,51 @@
+package org.pragadeesh.taskmanagement.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.pragadeesh.taskmanagement.mapper.TaskMapper;
+import org.pragadeesh.taskmanagement.model.Task;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * One {@link org.pragadeesh.taskmanagement.dto.TaskResponseDto} JSON document per line, the same
+ * shape as the rest of the API.
+ */
+public class NdjsonTaskExportWriter implements TaskExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+    private final TaskMapper taskMapper;
+
+    public NdjsonTaskExportWriter(OutputStream out, ObjectMapper objectMapper, TaskMapper taskMapper) {
+        try {
+            this.generator = objectMapper.getFactory()
+                    .createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Leave flushing to the generator's buffer; flushing per row would send one chunk per task
+        this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.taskMapper = taskMapper;
+    }
+
+    @Override
+    public void write(Task task) {
+        try {
+            writer.writeValue(generator, taskMapper.toDto(task));
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
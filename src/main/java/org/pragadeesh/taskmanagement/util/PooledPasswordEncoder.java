@@ -0,0 +1,126 @@
+package org.pragadeesh.taskmanagement.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.pragadeesh.taskmanagement.Exception.PasswordHashingBusyException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * BCrypt on a dedicated pool with one thread per core and a bounded queue. A login storm then uses
+ * at most those cores, and once the queue is full further hashing requests fail right away with a
+ * 429 instead of piling up on request threads. Callers still wait for their own result.
+ * <p>
+ * The work factor comes from {@code auth.password.bcrypt-strength}. Stored hashes of any other cost
+ * report {@link #upgradeEncoding}, which makes Spring Security re-hash the password after a
+ * successful login.
+ */
+@Component
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder bcrypt;
+    private final int strength;
+    private final ThreadPoolExecutor hashers;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejectedCounter;
+
+    public PooledPasswordEncoder(MeterRegistry meterRegistry,
+                                 @Value("${auth.password.bcrypt-strength:10}") int strength,
+                                 @Value("${auth.password.threads:0}") int threads,
+                                 @Value("${auth.password.queue-capacity:64}") int queueCapacity) {
+        this.bcrypt = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger hasherIds = new AtomicInteger();
+        this.hashers = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hasher-" + hasherIds.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = meterRegistry.timer("auth.password.hash");
+        this.verifyTimer = meterRegistry.timer("auth.password.verify");
+        Gauge.builder("auth.password.queue.size", hashers, executor -> executor.getQueue().size())
+                .description("Password hashing requests waiting for a hasher thread")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected")
+                .description("Password hashing requests refused because the queue was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> hashTimer.record(() -> bcrypt.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> verifyTimer.record(() -> bcrypt.matches(rawPassword, encodedPassword)));
+    }
+
+    // Also true for a cost above the configured one, so lowering the strength takes effect too
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int cost = costOf(encodedPassword);
+        return cost > 0 && cost != strength;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashers.shutdown();
+    }
+
+    private <T> T submit(Callable<T> work) {
+        Future<T> result;
+        try {
+            result = hashers.submit(work);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingBusyException("Too many password checks in progress, retry later");
+        }
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    // "$2a$10$..." has cost 10; anything that is not a BCrypt hash yields -1
+    private static int costOf(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$') {
+            return -1;
+        }
+        String[] parts = encodedPassword.split("\\$", 4);
+        if (parts.length < 4) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(parts[2]);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.pragadeesh.taskmanagement.util;
+
+import lombok.Getter;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskTombstone;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Opaque position in the task change feed, ordered by (changeSeq, id). {@link #START} precedes
+ * every change.
+ */
+@Getter
+public class TaskChangeCursor {
+
+    public static final TaskChangeCursor START = new TaskChangeCursor(-1, new UUID(0, 0));
+
+    private static final String SEPARATOR = "|";
+
+    private final long changeSeq;
+    private final UUID id;
+
+    public TaskChangeCursor(long changeSeq, UUID id) {
+        this.changeSeq = changeSeq;
+        this.id = Objects.requireNonNull(id, "id cannot be null");
+    }
+
+    public static TaskChangeCursor of(Task task) {
+        return new TaskChangeCursor(task.getChangeSeq(), task.getId());
+    }
+
+    public static TaskChangeCursor of(TaskTombstone tombstone) {
+        return new TaskChangeCursor(tombstone.getChangeSeq(), tombstone.getTaskId());
+    }
+
+    public String encode() {
+        String raw = changeSeq + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskChangeCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new TaskChangeCursor(
+                    Long.parseLong(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package org.pragadeesh.taskmanagement.util;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Strong entity tags for tasks. The tag is the task's version plus the encoding the response is
+ * written in: {@code "7"} for JSON, {@code "7-cbor"} and {@code "7-smile"} for the binary forms.
+ * The bytes differ per encoding, so each gets its own tag, and responses carry {@code Vary: Accept}.
+ * A tag changes with every update and can be compared without loading or serializing the task.
+ * <p>
+ * The version covers the task's own columns and its assignee list, not the entities the response
+ * embeds. Renaming the task's department or one of its assignees leaves the tag unchanged, so a
+ * client revalidating with If-None-Match keeps the old name until the task itself changes.
+ */
+public final class TaskETag {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static final String ANY = "*";
+
+    // In the order the message converters are registered, so wildcards resolve like they do
+    private static final List<MediaType> REPRESENTATIONS =
+            List.of(MediaType.APPLICATION_JSON, APPLICATION_SMILE, MediaType.APPLICATION_CBOR);
+
+    private TaskETag() {
+    }
+
+    public static String of(long version, MediaType representation) {
+        if (MediaType.APPLICATION_CBOR.equals(representation)) {
+            return "\"" + version + "-cbor\"";
+        }
+        if (APPLICATION_SMILE.equals(representation)) {
+            return "\"" + version + "-smile\"";
+        }
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * The encoding content negotiation picks for {@code accept}: JSON when the header is absent,
+     * otherwise the first acceptable of JSON, Smile and CBOR in order of preference. Null when
+     * none of them is acceptable or the header cannot be parsed.
+     */
+    public static MediaType representation(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType type : accepted) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            for (MediaType representation : REPRESENTATIONS) {
+                if (type.includes(representation)) {
+                    return representation;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The version an If-Match header requires, or null when the header is absent or "*" (any
+     * existing task matches). A tag of any encoding names the same version. A header that cannot
+     * match any task version (a weak tag, a list, or a tag this service never issued) yields -1,
+     * which fails the precondition.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return -1L;
+        }
+        String value = tag.substring(1, tag.length() - 1);
+        if (value.endsWith("-cbor")) {
+            value = value.substring(0, value.length() - "-cbor".length());
+        } else if (value.endsWith("-smile")) {
+            value = value.substring(0, value.length() - "-smile".length());
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
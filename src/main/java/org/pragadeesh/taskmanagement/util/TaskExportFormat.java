@@ -0,0 +1,49 @@
+package org.pragadeesh.taskmanagement.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.pragadeesh.taskmanagement.mapper.TaskMapper;
+
+import java.io.OutputStream;
+import java.util.Locale;
+
+public enum TaskExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public TaskExportWriter open(OutputStream out, ObjectMapper objectMapper, TaskMapper taskMapper) {
+            return new NdjsonTaskExportWriter(out, objectMapper, taskMapper);
+        }
+    },
+    CSV("text/csv", "csv") {
+        @Override
+        public TaskExportWriter open(OutputStream out, ObjectMapper objectMapper, TaskMapper taskMapper) {
+            return new CsvTaskExportWriter(out);
+        }
+    };
+
+    private final String contentType;
+    private final String fileExtension;
+
+    TaskExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public abstract TaskExportWriter open(OutputStream out, ObjectMapper objectMapper, TaskMapper taskMapper);
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static TaskExportFormat from(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + format + " (expected ndjson or csv)");
+        }
+    }
+}
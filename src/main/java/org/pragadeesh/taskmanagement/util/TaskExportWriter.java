@@ -0,0 +1,18 @@
+package org.pragadeesh.taskmanagement.util;
+
+import org.pragadeesh.taskmanagement.model.Task;
+
+import java.io.Closeable;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes tasks one at a time to an export stream. Implementations buffer internally and must not
+ * hold on to the tasks they were given, so an export runs in constant memory.
+ */
+public interface TaskExportWriter extends Closeable {
+
+    /**
+     * @throws UncheckedIOException if the client went away or the stream failed
+     */
+    void write(Task task);
+}
@@ -0,0 +1,22 @@
+package org.pragadeesh.taskmanagement.util;
+
+import java.util.Locale;
+
+/**
+ * How a page of tasks is laid out. {@code FULL} nests the department and assignees in every task;
+ * {@code NORMALIZED} lists each department and user once per page and refers to them by index,
+ * which is much smaller when tasks share departments and assignees.
+ */
+public enum TaskListShape {
+
+    FULL,
+    NORMALIZED;
+
+    public static TaskListShape from(String shape) {
+        try {
+            return valueOf(shape.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported list shape: " + shape + " (expected full or normalized)");
+        }
+    }
+}
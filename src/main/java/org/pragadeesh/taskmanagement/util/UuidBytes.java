@@ -0,0 +1,24 @@
+package org.pragadeesh.taskmanagement.util;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * UUID parameters for plain JDBC statements, in the same BINARY(16) layout Hibernate uses for UUID
+ * columns.
+ */
+public final class UuidBytes {
+
+    private UuidBytes() {
+    }
+
+    public static byte[] toBytes(UUID uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
@@ -0,0 +1,34 @@
+-- Converts id/foreign-key columns created as CHAR(36) (or Hibernate 5's BINARY(255)) to BINARY(16).
+-- Schemas created by this application on Hibernate 6 are already BINARY(16) and need nothing;
+-- existing random (v4) ids stay valid, only new rows get time-ordered (v7) ids.
+-- Run on MySQL 8 with the application stopped, after taking a backup. Drop the Hibernate-generated
+-- foreign keys on users, tasks and task_assignments first (names via SHOW CREATE TABLE).
+
+SET FOREIGN_KEY_CHECKS = 0;
+
+-- CHAR(36) schemas: rewrite the textual UUIDs in place (UUID_TO_BIN keeps the standard byte order)
+ALTER TABLE departments ADD COLUMN id_bin BINARY(16);
+UPDATE departments SET id_bin = UUID_TO_BIN(id);
+ALTER TABLE departments DROP PRIMARY KEY, DROP COLUMN id, RENAME COLUMN id_bin TO id, ADD PRIMARY KEY (id);
+
+ALTER TABLE users ADD COLUMN id_bin BINARY(16), ADD COLUMN department_id_bin BINARY(16);
+UPDATE users SET id_bin = UUID_TO_BIN(id), department_id_bin = UUID_TO_BIN(department_id);
+ALTER TABLE users DROP PRIMARY KEY, DROP COLUMN id, DROP COLUMN department_id,
+    RENAME COLUMN id_bin TO id, RENAME COLUMN department_id_bin TO department_id, ADD PRIMARY KEY (id);
+
+ALTER TABLE tasks ADD COLUMN id_bin BINARY(16), ADD COLUMN department_id_bin BINARY(16);
+UPDATE tasks SET id_bin = UUID_TO_BIN(id), department_id_bin = UUID_TO_BIN(department_id);
+ALTER TABLE tasks DROP PRIMARY KEY, DROP COLUMN id, DROP COLUMN department_id,
+    RENAME COLUMN id_bin TO id, RENAME COLUMN department_id_bin TO department_id, ADD PRIMARY KEY (id);
+
+ALTER TABLE task_assignments ADD COLUMN task_id_bin BINARY(16), ADD COLUMN user_id_bin BINARY(16);
+UPDATE task_assignments SET task_id_bin = UUID_TO_BIN(task_id), user_id_bin = UUID_TO_BIN(user_id);
+ALTER TABLE task_assignments DROP PRIMARY KEY, DROP COLUMN task_id, DROP COLUMN user_id,
+    RENAME COLUMN task_id_bin TO task_id, RENAME COLUMN user_id_bin TO user_id, ADD PRIMARY KEY (task_id, user_id);
+
+-- BINARY(255) schemas (Hibernate 5) already hold the 16 raw bytes, right-padded with zeros:
+-- ALTER TABLE departments MODIFY id BINARY(16) NOT NULL;  -- and likewise for every id/FK column above
+
+SET FOREIGN_KEY_CHECKS = 1;
+
+-- Foreign keys and secondary indexes are recreated by spring.jpa.hibernate.ddl-auto=update on the next start.
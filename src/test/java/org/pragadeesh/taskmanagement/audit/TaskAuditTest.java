@@ -0,0 +1,175 @@
+package org.pragadeesh.taskmanagement.audit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.Exception.TaskNotFoundException;
+import org.pragadeesh.taskmanagement.dto.TaskCreateDto;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskAudit;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.pragadeesh.taskmanagement.model.TimeOrderedUuidGenerator;
+import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.pragadeesh.taskmanagement.repository.TaskAuditRepository;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({TaskService.class, UserDirectory.class, DepartmentDirectory.class, TaskAuditLog.class, TaskAuditWriter.class,
+        TaskAuditService.class, SimpleMeterRegistry.class})
+// Audit rows are only recorded for committed writes
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TaskAuditTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskAuditService taskAuditService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskAuditRepository taskAuditRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Department department;
+
+    @BeforeEach
+    public void setUp() {
+        department = new Department();
+        department.setName("Engineering");
+        department = departmentRepository.save(department);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        taskAuditRepository.deleteAll();
+        taskRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    public void testChangesArePagedNewestFirst() throws InterruptedException {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("alice", null, List.of()));
+        Task task = taskService.createTask(newTask("Write report"));
+        taskService.updateTask(task.getId(), newTask("Write final report"), null);
+        taskService.markTaskAsCompleted(task.getId(), null);
+
+        awaitHistory(task.getId(), 3);
+
+        List<TaskAudit> newest = taskAuditService.getHistory(task.getId(), null, 2);
+        assertEquals(2, newest.size());
+        assertEquals(TaskStatus.COMPLETED, newest.get(0).getStatus());
+        assertEquals(TaskStatus.PENDING, newest.get(0).getPreviousStatus());
+        assertEquals("Write final report", newest.get(1).getTitle());
+        assertTrue(newest.stream().allMatch(audit -> "alice".equals(audit.getActor())));
+
+        List<TaskAudit> oldest = taskAuditService.getHistory(task.getId(), newest.get(1).getId(), 2);
+        assertEquals(1, oldest.size());
+        assertEquals(TaskAudit.ChangeType.CREATED, oldest.get(0).getChangeType());
+        assertEquals(department.getId(), oldest.get(0).getDepartmentId());
+    }
+
+    @Test
+    public void testHistoryOfUnknownTask() {
+        assertThrows(TaskNotFoundException.class, () -> taskAuditService.getHistory(UUID.randomUUID(), null, 10));
+    }
+
+    @Test
+    public void testFullBufferDropsWithoutWaiting() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TaskAuditLog auditLog = new TaskAuditLog(2, registry);
+
+        assertTrue(auditLog.append(audit(UUID.randomUUID())));
+        assertTrue(auditLog.append(audit(UUID.randomUUID())));
+        // A bulk write's worth of events against a full buffer must not hold up the request thread
+        long start = System.nanoTime();
+        for (int i = 0; i < 10_000; i++) {
+            assertFalse(auditLog.append(audit(UUID.randomUUID())));
+        }
+        assertTrue(System.nanoTime() - start < 1_000_000_000L, "Dropping must not wait for buffer space");
+
+        assertEquals(2, registry.get("tasks.audit.buffer.size").gauge().value());
+        assertEquals(10_000, registry.get("tasks.audit.dropped").tag("reason", "buffer_full").counter().count());
+    }
+
+    @Test
+    public void testStopFlushesTheBufferInOneInsert() throws InterruptedException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        TaskAuditLog auditLog = new TaskAuditLog(100, registry);
+        TaskAuditWriter writer = new TaskAuditWriter(auditLog, jdbcTemplate, 100, registry);
+        UUID taskId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            auditLog.append(audit(taskId));
+        }
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        writer.start();
+        writer.stop(stopped::countDown);
+
+        assertTrue(stopped.await(5, TimeUnit.SECONDS));
+        assertEquals(0, auditLog.size());
+        assertEquals(5, taskAuditService.getHistory(taskId, null, 10).size());
+        assertEquals(1, registry.get("tasks.audit.batch.size").summary().count());
+    }
+
+    private void awaitHistory(UUID taskId, int changes) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (taskAuditRepository.findByTaskIdOrderByIdDesc(taskId, Limit.of(changes))
+                .size() < changes) {
+            assertTrue(System.nanoTime() < deadline, "audit rows were not written in time");
+            Thread.sleep(20);
+        }
+    }
+
+    private static TaskAudit audit(UUID taskId) {
+        TaskAudit audit = new TaskAudit();
+        audit.setId(TimeOrderedUuidGenerator.next());
+        audit.setTaskId(taskId);
+        audit.setChangeType(TaskAudit.ChangeType.UPDATED);
+        audit.setChangedAt(LocalDateTime.now());
+        audit.setStatus(TaskStatus.IN_PROGRESS);
+        audit.setPreviousStatus(TaskStatus.PENDING);
+        return audit;
+    }
+
+    private TaskCreateDto newTask(String title) {
+        TaskCreateDto dto = new TaskCreateDto();
+        dto.setTitle(title);
+        dto.setDepartmentId(department.getId());
+        return dto;
+    }
+}
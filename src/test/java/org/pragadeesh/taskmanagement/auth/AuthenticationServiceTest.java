@@ -0,0 +1,108 @@
+package org.pragadeesh.taskmanagement.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.Exception.UserAlreadyExistsException;
+import org.pragadeesh.taskmanagement.dto.UserLoginDto;
+import org.pragadeesh.taskmanagement.dto.UserSignupDto;
+import org.pragadeesh.taskmanagement.model.Role;
+import org.pragadeesh.taskmanagement.model.User;
+import org.pragadeesh.taskmanagement.repository.UserRepository;
+import org.pragadeesh.taskmanagement.service.AuthenticationService;
+import org.pragadeesh.taskmanagement.service.UserDetailsServiceImp;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.pragadeesh.taskmanagement.util.JwtUtil;
+import org.pragadeesh.taskmanagement.util.PooledPasswordEncoder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "secret_key=c2VjcmV0LWtleS1mb3ItdGVzdHMtdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaHMyNTY",
+        "auth.password.bcrypt-strength=5"
+})
+@Import({AuthenticationService.class, UserDirectory.class, UserDetailsServiceImp.class, PooledPasswordEncoder.class,
+        JwtUtil.class, SimpleMeterRegistry.class, AuthenticationServiceTest.Authentication.class})
+// A duplicate username is only detected when the insert reaches the database, so every write commits
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class AuthenticationServiceTest {
+
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    public void testDuplicateUsernameIsRejectedByTheUniqueIndex() {
+        authenticationService.register(signup("alice", "secret"));
+
+        assertThrows(UserAlreadyExistsException.class, () -> authenticationService.register(signup("alice", "other")));
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    public void testLoginRehashesPasswordStoredWithAnotherCost() {
+        User user = new User();
+        user.setUsername("bob");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("secret"));
+        user.setRole(Role.USER);
+        userRepository.save(user);
+
+        assertNotNull(authenticationService.login(login("bob", "secret")).getToken());
+
+        String rehashed = userRepository.findByUsername("bob").orElseThrow().getPassword();
+        assertTrue(rehashed.startsWith("$2a$05$"));
+        // The new hash is the one checked from now on
+        assertNotNull(authenticationService.login(login("bob", "secret")).getToken());
+        assertThrows(BadCredentialsException.class, () -> authenticationService.login(login("bob", "wrong")));
+    }
+
+    private static UserSignupDto signup(String username, String password) {
+        UserSignupDto dto = new UserSignupDto();
+        dto.setUsername(username);
+        dto.setPassword(password);
+        return dto;
+    }
+
+    private static UserLoginDto login(String username, String password) {
+        UserLoginDto dto = new UserLoginDto();
+        dto.setUsername(username);
+        dto.setPassword(password);
+        return dto;
+    }
+
+    // What AuthenticationConfiguration builds from the UserDetailsService and PasswordEncoder beans
+    @TestConfiguration
+    static class Authentication {
+
+        @Bean
+        AuthenticationManager authenticationManager(UserDetailsServiceImp userDetailsService,
+                                                    PooledPasswordEncoder passwordEncoder) {
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+            provider.setUserDetailsService(userDetailsService);
+            provider.setUserDetailsPasswordService(userDetailsService);
+            provider.setPasswordEncoder(passwordEncoder);
+            return new ProviderManager(provider);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.pragadeesh.taskmanagement.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.event.TaskChangedEvent;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskResponseCacheTest {
+
+    private final TaskResponseCache cache = new TaskResponseCache(new ObjectMapper(), DataSize.ofMegabytes(1),
+            Duration.ofMinutes(1), DataSize.ofKilobytes(1));
+
+    @Test
+    public void testTaskChangeRetiresTaskAndDepartmentEntries() {
+        UUID taskId = UUID.randomUUID();
+        UUID from = UUID.randomUUID();
+        UUID to = UUID.randomUUID();
+        String fromListing = "http://localhost/tasks/filter?departmentId=" + from;
+        String toListing = "http://localhost/tasks/filter?departmentId=" + to;
+
+        long taskVersion = cache.taskVersion(taskId);
+        long fromVersion = cache.departmentVersion(from);
+        long toVersion = cache.departmentVersion(to);
+        cache.put(taskId, taskVersion, Map.of("title", "Before"), new HttpHeaders());
+        cache.put(fromListing, fromVersion, Map.of("size", 1), new HttpHeaders());
+        cache.put(toListing, toVersion, Map.of("size", 0), new HttpHeaders());
+        assertNotNull(cache.get(taskId, cache.taskVersion(taskId)));
+
+        Task task = new Task();
+        task.setId(taskId);
+        task.setStatus(TaskStatus.PENDING);
+        Department department = new Department();
+        department.setId(to);
+        task.setDepartment(department);
+        cache.onTaskChanged(TaskChangedEvent.updated(task, TaskStatus.PENDING, from, Set.of()));
+
+        assertNotEquals(taskVersion, cache.taskVersion(taskId));
+        assertNull(cache.get(taskId, cache.taskVersion(taskId)));
+        assertNull(cache.get(fromListing, cache.departmentVersion(from)));
+        assertNull(cache.get(toListing, cache.departmentVersion(to)));
+    }
+
+    @Test
+    public void testLargeBodiesAreServedGzippedOnlyWhenAccepted() throws Exception {
+        String description = "x".repeat(4096);
+        CachedResponse large = cache.put(UUID.randomUUID(), 0, Map.of("description", description),
+                new HttpHeaders());
+        CachedResponse small = cache.put(UUID.randomUUID(), 0, Map.of("description", "short"), new HttpHeaders());
+
+        ResponseEntity<byte[]> gzipped = large.toResponse(true);
+        assertEquals("gzip", gzipped.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(gzipped.getBody().length < description.length());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getBody()))) {
+            assertEquals(description, new ObjectMapper().readTree(in).get("description").asText());
+        }
+        assertNull(large.toResponse(false).getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), large.toResponse(false).getHeaders().getVary());
+        assertNull(small.toResponse(true).getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    public void testStoredVaryIsKeptAlongsideAcceptEncoding() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"3\"");
+        headers.setVary(List.of(HttpHeaders.ACCEPT));
+        CachedResponse large = cache.put(UUID.randomUUID(), 0, Map.of("description", "x".repeat(4096)), headers);
+        CachedResponse small = cache.put(UUID.randomUUID(), 0, Map.of("description", "short"), headers);
+
+        assertEquals(List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING),
+                large.toResponse(true).getHeaders().getVary());
+        assertEquals(List.of(HttpHeaders.ACCEPT), small.toResponse(true).getHeaders().getVary());
+        assertEquals("\"3\"", small.toResponse(true).getHeaders().getETag());
+    }
+
+    @Test
+    public void testCacheIsBoundedInBytes() {
+        TaskResponseCache bounded = new TaskResponseCache(new ObjectMapper(), DataSize.ofKilobytes(16),
+                Duration.ofMinutes(1), DataSize.ofMegabytes(1));
+        for (int i = 0; i < 100; i++) {
+            bounded.put(UUID.randomUUID(), 0, Map.of("description", "x".repeat(1000)), new HttpHeaders());
+        }
+        bounded.getResponses().cleanUp();
+
+        long bytes = bounded.getResponses().policy().eviction().orElseThrow().weightedSize().orElseThrow();
+        assertTrue(bytes <= DataSize.ofKilobytes(16).toBytes());
+        assertTrue(bounded.getResponses().estimatedSize() < 100);
+    }
+
+    @Test
+    public void testOnlyJsonRequestsAreCacheable() {
+        assertTrue(TaskResponseCache.prefersJson(null));
+        assertTrue(TaskResponseCache.prefersJson("*/*"));
+        assertTrue(TaskResponseCache.prefersJson("application/json"));
+        assertTrue(TaskResponseCache.prefersJson("application/cbor;q=0.5, application/json"));
+        assertFalse(TaskResponseCache.prefersJson("application/cbor"));
+        assertFalse(TaskResponseCache.prefersJson("application/x-jackson-smile, */*;q=0.1"));
+
+        assertTrue(TaskResponseCache.acceptsGzip("deflate, gzip;q=0.8"));
+        assertFalse(TaskResponseCache.acceptsGzip("gzip;q=0"));
+        assertFalse(TaskResponseCache.acceptsGzip(null));
+    }
+}
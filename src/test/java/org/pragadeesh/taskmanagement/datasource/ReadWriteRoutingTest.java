@@ -0,0 +1,130 @@
+package org.pragadeesh.taskmanagement.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.config.DataSourceRoutingConfig;
+import org.pragadeesh.taskmanagement.dto.TaskCreateDto;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.DepartmentSnapshot;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("replica")
+@Import({DataSourceRoutingConfig.class, TaskService.class, UserDirectory.class, DepartmentDirectory.class})
+// Routing happens per transaction, so every call has to run and commit on its own
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ReadWriteRoutingTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentDirectory departmentDirectory;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replica;
+
+    private Department department;
+
+    @BeforeEach
+    public void setUp() {
+        department = new Department();
+        department.setName("Engineering");
+        department = departmentRepository.save(department);
+        replicate();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        departmentDirectory.evictAll();
+        taskRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    public void testReadOnlyTransactionsReadTheReplica() {
+        taskService.createTask(newTask("Write report"));
+
+        assertTrue(taskService.getTaskPage(null, 10).isEmpty());
+
+        replicate();
+        assertEquals(1, taskService.getTaskPage(null, 10).size());
+    }
+
+    @Test
+    public void testWriterReadsItsOwnWritesFromThePrimary() {
+        authenticate("alice");
+        taskService.createTask(newTask("Write report"));
+
+        assertEquals(1, taskService.getTaskPage(null, 10).size());
+
+        authenticate("bob");
+        assertTrue(taskService.getTaskPage(null, 10).isEmpty());
+    }
+
+    @Test
+    public void testDirectoryMissesReadThePrimary() {
+        Department added = new Department();
+        added.setName("Support");
+        added = departmentRepository.save(added);
+
+        assertTrue(departmentDirectory.findById(added.getId()).isPresent());
+        assertEquals(List.of("Engineering", "Support"), departmentDirectory.findAll().stream()
+                .map(DepartmentSnapshot::name)
+                .toList());
+    }
+
+    // Stands in for replication: the replica becomes a copy of the primary as of now
+    private void replicate() {
+        List<String> script = new JdbcTemplate(primary).queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class);
+        JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("DROP ALL OBJECTS");
+        script.forEach(replicaJdbc::execute);
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+
+    private TaskCreateDto newTask(String title) {
+        TaskCreateDto dto = new TaskCreateDto();
+        dto.setTitle(title);
+        dto.setDepartmentId(department.getId());
+        return dto;
+    }
+}
@@ -0,0 +1,161 @@
+package org.pragadeesh.taskmanagement.department;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.Exception.DepartmentNotFoundException;
+import org.pragadeesh.taskmanagement.cache.TaskResponseCache;
+import org.pragadeesh.taskmanagement.dto.DepartmentCreateDto;
+import org.pragadeesh.taskmanagement.dto.TaskCreateDto;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Role;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.User;
+import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.pragadeesh.taskmanagement.repository.UserRepository;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.DepartmentService;
+import org.pragadeesh.taskmanagement.service.DepartmentSnapshot;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.pragadeesh.taskmanagement.summary.TaskCounts;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import({DepartmentService.class, DepartmentDirectory.class, UserDirectory.class, TaskCounts.class, TaskService.class,
+        TaskResponseCache.class, JacksonAutoConfiguration.class})
+// The directory outlives transactions, as it does in the application, so every write here commits
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class DepartmentDirectoryTest {
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private DepartmentDirectory departmentDirectory;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department engineering;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        departmentDirectory.evictAll();
+        engineering = departmentService.createDepartment(newDepartment("Engineering"));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    public void testLookupsAreServedFromTheDirectory() {
+        departmentService.getDepartmentById(engineering.getId());
+        departmentService.getAllDepartment();
+        statistics.clear();
+
+        assertEquals("Engineering", departmentService.getDepartmentById(engineering.getId()).name());
+        assertEquals(List.of("Engineering"), names(departmentService.getAllDepartment()));
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertThrows(UnsupportedOperationException.class, () -> departmentService.getAllDepartment().clear());
+    }
+
+    @Test
+    public void testTaskCreationResolvesTheDepartmentFromTheDirectory() {
+        departmentService.getDepartmentById(engineering.getId());
+        statistics.clear();
+
+        TaskCreateDto task = new TaskCreateDto();
+        task.setTitle("Write report");
+        task.setDepartmentId(engineering.getId());
+        Task created = taskService.createTask(task);
+
+        // Only the task insert; the linked department comes from the second-level cache
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, taskRepository.count());
+        // Readable after the session closed, as the response mapping needs it
+        assertTrue(Hibernate.isInitialized(created.getDepartment()));
+        assertEquals("Engineering", created.getDepartment().getName());
+    }
+
+    @Test
+    public void testWritesInvalidateTheDirectory() {
+        assertEquals(List.of("Engineering"), names(departmentService.getAllDepartment()));
+
+        Department marketing = departmentService.createDepartment(newDepartment("Marketing"));
+        assertEquals(List.of("Engineering", "Marketing"), names(departmentService.getAllDepartment()));
+
+        departmentService.updateDepartment(marketing.getId(), newDepartment("Advertising"));
+        assertEquals("Advertising", departmentService.getDepartmentById(marketing.getId()).name());
+        assertEquals(List.of("Advertising", "Engineering"), names(departmentService.getAllDepartment()));
+
+        departmentService.deleteDepartment(marketing.getId());
+        UUID deletedId = marketing.getId();
+        assertThrows(DepartmentNotFoundException.class, () -> departmentService.getDepartmentById(deletedId));
+        assertEquals(List.of("Engineering"), names(departmentService.getAllDepartment()));
+    }
+
+    @Test
+    public void testCounts() {
+        for (int i = 0; i < 3; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setPassword("password");
+            user.setRole(Role.USER);
+            user.setDepartment(engineering);
+            userRepository.save(user);
+        }
+
+        assertEquals(3L, departmentService.countUsers(engineering.getId()));
+        assertEquals(3L, departmentService.countUsersByDepartment().get(engineering.getId()));
+        assertEquals(0L, departmentService.countTasks(engineering.getId()));
+    }
+
+    private DepartmentCreateDto newDepartment(String name) {
+        DepartmentCreateDto dto = new DepartmentCreateDto();
+        dto.setName(name);
+        return dto;
+    }
+
+    private List<String> names(List<DepartmentSnapshot> departments) {
+        return departments.stream().map(DepartmentSnapshot::name).toList();
+    }
+}
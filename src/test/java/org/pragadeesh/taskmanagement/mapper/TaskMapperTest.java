@@ -0,0 +1,101 @@
+package org.pragadeesh.taskmanagement.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.dto.DepartmentDto;
+import org.pragadeesh.taskmanagement.dto.NormalizedTaskDto;
+import org.pragadeesh.taskmanagement.dto.NormalizedTaskPageDto;
+import org.pragadeesh.taskmanagement.dto.TaskPageDto;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Role;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.User;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskMapperTest {
+
+    private final TaskMapper taskMapper = new TaskMapper();
+
+    @Test
+    public void testNormalizedPageListsDepartmentsAndUsersOnce() {
+        Department engineering = department("Engineering");
+        Department sales = department("Sales");
+        User alice = user("alice");
+        User bob = user("bob");
+        List<Task> tasks = List.of(
+                task(engineering, alice, bob),
+                task(sales, bob),
+                task(engineering, alice));
+
+        NormalizedTaskPageDto page = taskMapper.toNormalizedPage(tasks);
+
+        assertEquals(3, page.getSize());
+        assertEquals(List.of("Engineering", "Sales"), page.getDepartments().stream().map(DepartmentDto::getName).toList());
+        assertEquals(2, page.getUsers().size());
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            NormalizedTaskDto dto = page.getContent().get(i);
+            assertEquals(task.getId(), dto.getId());
+            assertEquals(task.getDepartment().getId(), page.getDepartments().get(dto.getDepartment()).getId());
+            assertEquals(task.getAssignedUsers().stream().map(User::getId).collect(Collectors.toSet()),
+                    dto.getAssignedUsers().stream().map(index -> page.getUsers().get(index).getId())
+                            .collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    public void testCborEncodesUuidsAsBinary() throws Exception {
+        ObjectMapper cbor = Jackson2ObjectMapperBuilder.json()
+                .factory(new CBORFactory())
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        Task task = task(department("Engineering"), user("alice"));
+        TaskPageDto page = new TaskPageDto();
+        page.setContent(List.of(taskMapper.toDto(task)));
+
+        byte[] encoded = cbor.writeValueAsBytes(page);
+        byte[] json = Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(page);
+
+        JsonNode id = cbor.readTree(encoded).get("content").get(0).get("id");
+        assertTrue(id.isBinary());
+        assertEquals(16, id.binaryValue().length);
+        assertTrue(encoded.length < json.length);
+    }
+
+    private static Task task(Department department, User... assignees) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Task");
+        task.setDepartment(department);
+        task.setAssignedUsers(Set.of(assignees));
+        task.setCreatedAt(LocalDateTime.now());
+        task.setVersion(0L);
+        return task;
+    }
+
+    private static Department department(String name) {
+        Department department = new Department();
+        department.setId(UUID.randomUUID());
+        department.setName(name);
+        return department;
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setUsername(username);
+        user.setRole(Role.USER);
+        return user;
+    }
+}
@@ -0,0 +1,47 @@
+package org.pragadeesh.taskmanagement.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    public void testGeneratesVersion7Uuids() {
+        UUID uuid = TimeOrderedUuidGenerator.next();
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long embeddedMillis = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(Math.abs(System.currentTimeMillis() - embeddedMillis) < 5000);
+    }
+
+    @Test
+    public void testIdsAreStrictlyIncreasingInBinaryOrder() {
+        byte[] previous = toBytes(TimeOrderedUuidGenerator.next());
+        Set<UUID> seen = new HashSet<>();
+
+        for (int i = 0; i < 100_000; i++) {
+            UUID uuid = TimeOrderedUuidGenerator.next();
+            byte[] current = toBytes(uuid);
+
+            // BINARY(16) columns compare bytes as unsigned, which is what Arrays.compareUnsigned does
+            assertTrue(Arrays.compareUnsigned(previous, current) < 0);
+            assertTrue(seen.add(uuid));
+            previous = current;
+        }
+    }
+
+    private byte[] toBytes(UUID uuid) {
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+}
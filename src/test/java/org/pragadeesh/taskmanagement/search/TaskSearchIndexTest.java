@@ -0,0 +1,135 @@
+package org.pragadeesh.taskmanagement.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskSearchIndexTest {
+
+    private TaskSearchIndex index;
+
+    private final UUID invoice = UUID.randomUUID();
+    private final UUID report = UUID.randomUUID();
+    private final UUID onboarding = UUID.randomUUID();
+
+    @BeforeEach
+    public void setUp() {
+        index = new TaskSearchIndex();
+        index.index(invoice, "Send invoice to ACME", "Monthly billing run for the enterprise plan");
+        index.index(report, "Quarterly report", "Collect the invoice totals and billing numbers");
+        index.index(onboarding, "Onboarding checklist", "Laptop, accounts and a billing walkthrough");
+    }
+
+    @Test
+    public void testTitleMatchesRankAboveDescriptionMatches() {
+        List<TaskSearchHit> hits = index.search("invoice", 10);
+
+        assertEquals(List.of(invoice, report), ids(hits));
+        assertTrue(hits.get(0).getScore() > hits.get(1).getScore());
+    }
+
+    @Test
+    public void testAllWordsMustMatchAndLastWordMatchesAsPrefix() {
+        assertEquals(List.of(report), ids(index.search("Billing quart", 10)));
+        assertEquals(List.of(onboarding), ids(index.search("walk", 10)));
+        assertTrue(index.search("billing nonexistent", 10).isEmpty());
+        // Only the last word is a prefix, and only from three characters on
+        assertTrue(index.search("bill run", 10).isEmpty());
+        assertTrue(index.search("wa", 10).isEmpty());
+    }
+
+    @Test
+    public void testLimitKeepsBestMatches() {
+        List<TaskSearchHit> all = index.search("billing", 10);
+        assertEquals(3, all.size());
+
+        assertEquals(ids(all).subList(0, 2), ids(index.search("billing", 2)));
+    }
+
+    @Test
+    public void testReindexReplacesOldTerms() {
+        index.index(report, "Yearly summary", "Nothing about money");
+
+        assertTrue(ids(index.search("quarterly", 10)).isEmpty());
+        assertEquals(List.of(invoice), ids(index.search("invoice", 10)));
+        assertEquals(List.of(report), ids(index.search("yearly", 10)));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    public void testRemovedTasksAreNotFound() {
+        index.remove(invoice);
+
+        assertEquals(List.of(report), ids(index.search("invoice", 10)));
+        assertTrue(index.search("acme", 10).isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void testRemovedDocIdsAreReused() {
+        TaskSearchIndex churned = new TaskSearchIndex();
+        List<UUID> live = new ArrayList<>();
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 500; i++) {
+                UUID id = UUID.randomUUID();
+                churned.index(id, "round" + round, "walkthrough number " + i);
+                live.add(id);
+            }
+            // Keep the newest 500, as if older tasks were deleted while new ones kept coming in
+            while (live.size() > 500) {
+                churned.remove(live.remove(0));
+            }
+        }
+
+        assertEquals(500, churned.size());
+        assertTrue(churned.docIdLimit() <= 1000, "Doc ids must not grow with the number of tasks ever indexed");
+        // A reused doc id carries none of its previous task's terms
+        assertTrue(churned.search("round0", 10).isEmpty());
+        assertEquals(500, churned.search("round19", 1000).size());
+        // Wide prefix, scored through the doc-indexed array
+        assertEquals(new HashSet<>(live), new HashSet<>(ids(churned.search("walk", 1000))));
+    }
+
+    @Test
+    public void testIndexIfAbsentKeepsNewerText() {
+        index.indexIfAbsent(invoice, "Stale title", null);
+
+        assertTrue(index.search("stale", 10).isEmpty());
+        assertEquals(List.of(invoice), ids(index.search("acme", 10)));
+    }
+
+    @Test
+    public void testPunctuationAndCaseAreIgnored() {
+        assertEquals(List.of(onboarding), ids(index.search("LAPTOP!!", 10)));
+        assertTrue(index.search("  ?? ", 10).isEmpty());
+    }
+
+    @Test
+    public void testIntersectionOfLongPostingListsFindsEveryMatch() {
+        TaskSearchIndex large = new TaskSearchIndex();
+        Set<UUID> expected = new HashSet<>();
+        for (int i = 0; i < 5000; i++) {
+            UUID id = UUID.randomUUID();
+            boolean even = i % 2 == 0;
+            boolean seventh = i % 7 == 0;
+            large.index(id, "task " + i, (even ? "alpha " : "") + (seventh ? "beta" + (i % 3) : ""));
+            if (even && seventh) {
+                expected.add(id);
+            }
+        }
+
+        // "alpha" is exact, "beta" expands to beta0, beta1 and beta2
+        assertEquals(expected, new HashSet<>(ids(large.search("alpha beta", 10_000))));
+    }
+
+    private static List<UUID> ids(List<TaskSearchHit> hits) {
+        return hits.stream().map(TaskSearchHit::getTaskId).toList();
+    }
+}
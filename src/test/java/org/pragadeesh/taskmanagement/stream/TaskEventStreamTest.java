@@ -0,0 +1,205 @@
+package org.pragadeesh.taskmanagement.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.Exception.TaskStreamUnavailableException;
+import org.pragadeesh.taskmanagement.event.TaskChangedEvent;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TaskEventStreamTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TaskEventStream stream;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stream = new TaskEventStream(new ObjectMapper(), meterRegistry, BUFFER_SIZE, 3, 2, Duration.ofHours(1),
+                Duration.ofHours(1));
+        stream.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        stream.stop();
+    }
+
+    @Test
+    public void testSubscribersOnlyReceiveMatchingChanges() throws InterruptedException {
+        UUID engineering = UUID.randomUUID();
+        UUID sales = UUID.randomUUID();
+        UUID alice = UUID.randomUUID();
+        RecordingEmitter everything = subscribe(null, null);
+        RecordingEmitter engineeringOnly = subscribe(engineering, null);
+        RecordingEmitter aliceOnly = subscribe(null, alice);
+
+        stream.onTaskChanged(TaskChangedEvent.statusChanged(UUID.randomUUID(), engineering, Set.of(alice),
+                TaskStatus.PENDING, TaskStatus.IN_PROGRESS));
+        stream.onTaskChanged(TaskChangedEvent.statusChanged(UUID.randomUUID(), sales, Set.of(),
+                TaskStatus.IN_PROGRESS, TaskStatus.COMPLETED));
+
+        awaitUntil(() -> everything.events().size() == 2);
+        awaitUntil(() -> engineeringOnly.events().size() == 1 && aliceOnly.events().size() == 1);
+        assertEquals(List.of("task.updated", "task.completed"), everything.events());
+        assertEquals(List.of("task.updated"), engineeringOnly.events());
+        assertEquals(List.of("task.updated"), aliceOnly.events());
+        // Every subscriber gets the same, well-formed frame for a shared change
+        String frame = everything.frames().get(0);
+        assertTrue(frame.matches("event:task\\.updated\ndata:\\{.*}\n\n"), frame);
+        assertEquals(frame, engineeringOnly.frames().get(0));
+        assertEquals(frame, aliceOnly.frames().get(0));
+    }
+
+    @Test
+    public void testSlowSubscriberIsEvictedWithoutHoldingUpOthers() throws InterruptedException {
+        CountDownLatch unblock = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter(unblock);
+        stream.subscribe(slow, null, null);
+        RecordingEmitter fast = subscribe(null, null);
+
+        // The slow client's sender is stuck on its first write, so its buffer fills up,
+        // while the fast one keeps up with every event
+        for (int i = 1; i <= BUFFER_SIZE + 2; i++) {
+            stream.onTaskChanged(TaskChangedEvent.statusChanged(UUID.randomUUID(), null, Set.of(),
+                    TaskStatus.PENDING, TaskStatus.IN_PROGRESS));
+            int delivered = i;
+            awaitUntil(() -> fast.events().size() == delivered);
+        }
+
+        assertEquals(1, stream.getSubscriberCount());
+        assertEquals(1.0, meterRegistry.get("tasks.stream.evicted").counter().count());
+
+        unblock.countDown();
+        awaitUntil(slow::isCompleted);
+        assertFalse(fast.isCompleted());
+    }
+
+    @Test
+    public void testStalledWritesAreEvictedWithoutBlockingTheSenders() throws InterruptedException {
+        stream.stop();
+        meterRegistry = new SimpleMeterRegistry();
+        stream = new TaskEventStream(new ObjectMapper(), meterRegistry, BUFFER_SIZE, 10, 2, Duration.ofHours(1),
+                Duration.ofMillis(200));
+        stream.start();
+
+        // More stalled clients than sender threads; none of their writes ever returns on its own
+        CountDownLatch unblock = new CountDownLatch(1);
+        for (int i = 0; i < 4; i++) {
+            stream.subscribe(new RecordingEmitter(unblock), null, null);
+        }
+        RecordingEmitter fast = subscribe(null, null);
+
+        for (int i = 1; i <= BUFFER_SIZE; i++) {
+            stream.onTaskChanged(TaskChangedEvent.statusChanged(UUID.randomUUID(), null, Set.of(),
+                    TaskStatus.PENDING, TaskStatus.IN_PROGRESS));
+            int delivered = i;
+            awaitUntil(() -> fast.events().size() == delivered);
+        }
+
+        awaitUntil(() -> stream.getSubscriberCount() == 1);
+        assertEquals(4.0, meterRegistry.get("tasks.stream.evicted").counter().count());
+        assertFalse(fast.isCompleted());
+        unblock.countDown();
+    }
+
+    @Test
+    public void testSubscriptionsBeyondTheLimitAreRefused() {
+        subscribe(null, null);
+        subscribe(null, null);
+        RecordingEmitter closed = subscribe(null, null);
+
+        assertThrows(TaskStreamUnavailableException.class, () -> subscribe(null, null));
+
+        closed.complete();
+        assertDoesNotThrow(() -> subscribe(null, null));
+    }
+
+    private RecordingEmitter subscribe(UUID departmentId, UUID assigneeId) {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        stream.subscribe(emitter, departmentId, assigneeId);
+        return emitter;
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for stream delivery");
+            Thread.sleep(10);
+        }
+    }
+
+    // Stands in for the servlet response: records named events and can stall writes like a slow client
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final List<String> frames = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sendGate;
+        private final List<Runnable> completionCallbacks = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        RecordingEmitter(CountDownLatch sendGate) {
+            this.sendGate = sendGate;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (sendGate != null) {
+                try {
+                    sendGate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            String text = builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining());
+            if (text.startsWith("event:")) {
+                events.add(text.substring("event:".length(), text.indexOf('\n')));
+                frames.add(text);
+            }
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completionCallbacks.add(callback);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            completionCallbacks.forEach(Runnable::run);
+        }
+
+        List<String> events() {
+            return events;
+        }
+
+        List<String> frames() {
+            return frames;
+        }
+
+        boolean isCompleted() {
+            return completed;
+        }
+    }
+}
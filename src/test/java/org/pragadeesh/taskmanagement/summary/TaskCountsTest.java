@@ -0,0 +1,151 @@
+package org.pragadeesh.taskmanagement.summary;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.dto.DepartmentTaskSummaryDto;
+import org.pragadeesh.taskmanagement.dto.TaskCreateDto;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.pragadeesh.taskmanagement.repository.TaskCountView;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({TaskService.class, UserDirectory.class, DepartmentDirectory.class, TaskCounts.class, TaskCountReconciler.class,
+        TaskSummaryService.class, SimpleMeterRegistry.class})
+// Counters are updated after commit, so every write here has to really commit
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TaskCountsTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskCounts counts;
+
+    @Autowired
+    private TaskCountReconciler reconciler;
+
+    @Autowired
+    private TaskSummaryService taskSummaryService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentDirectory departmentDirectory;
+
+    private Department engineering;
+    private Department marketing;
+
+    @BeforeEach
+    public void setUp() {
+        engineering = new Department();
+        engineering.setName("Engineering");
+        marketing = new Department();
+        marketing.setName("Marketing");
+        departmentRepository.saveAll(List.of(engineering, marketing));
+        // Saved around DepartmentService, so drop what the directory cached from earlier tests
+        departmentDirectory.evictAll();
+        // Start from the (empty) database state, whatever earlier tests left in the counters
+        reconciler.reconcile();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    public void testCountsFollowEveryKindOfTaskWrite() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            tasks.add(taskService.createTask(newTask("Task " + i, engineering)));
+        }
+
+        taskService.markTaskAsCompleted(tasks.get(0).getId(), null);
+        taskService.assignDepartmentToTask(tasks.get(1).getId(), marketing.getId(), null);
+        taskService.updateTask(tasks.get(2).getId(), newTask("Renamed", engineering), null);
+        taskService.deleteTask(tasks.get(3).getId());
+
+        assertEquals(Map.of(TaskStatus.PENDING, 1L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.COMPLETED, 1L),
+                counts.get(engineering.getId()));
+        assertEquals(Map.of(TaskStatus.PENDING, 1L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.COMPLETED, 0L),
+                counts.get(marketing.getId()));
+        assertEquals(0, counts.reconcile(taskRepository::countByDepartmentAndStatus),
+                "incremental counts should already match the database");
+    }
+
+    @Test
+    public void testReconcileCorrectsWritesThatBypassedTheService() {
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Task task = new Task();
+            task.setTitle("Imported " + i);
+            task.setStatus(i < 2 ? TaskStatus.IN_PROGRESS : TaskStatus.PENDING);
+            task.setDepartment(marketing);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+        assertEquals(0L, counts.get(marketing.getId()).get(TaskStatus.PENDING));
+
+        reconciler.reconcile();
+
+        List<DepartmentTaskSummaryDto> summary = taskSummaryService.getSummary();
+        assertEquals(List.of("Engineering", "Marketing"),
+                summary.stream().map(DepartmentTaskSummaryDto::getDepartmentName).toList());
+        assertEquals(0, summary.get(0).getTotal());
+        assertEquals(5, summary.get(1).getTotal());
+        assertEquals(3L, summary.get(1).getCountsByStatus().get(TaskStatus.PENDING));
+        assertEquals(2L, summary.get(1).getCountsByStatus().get(TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    public void testReconcileKeepsWritesCommittedAfterItsQuery() {
+        taskService.createTask(newTask("Before", engineering));
+
+        long drift = counts.reconcile(() -> {
+            List<TaskCountView> totals = taskRepository.countByDepartmentAndStatus();
+            // Commits, and reaches the counters, after the snapshot was taken
+            taskService.createTask(newTask("After", engineering));
+            return totals;
+        });
+
+        assertEquals(0, drift);
+        assertEquals(2L, counts.get(engineering.getId()).get(TaskStatus.PENDING));
+        assertEquals(0, counts.reconcile(taskRepository::countByDepartmentAndStatus));
+    }
+
+    private TaskCreateDto newTask(String title, Department department) {
+        TaskCreateDto dto = new TaskCreateDto();
+        dto.setTitle(title);
+        dto.setDueDate(LocalDate.now().plusDays(7));
+        dto.setDepartmentId(department.getId());
+        return dto;
+    }
+}
@@ -0,0 +1,145 @@
+package org.pragadeesh.taskmanagement.sync;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.dto.TaskCreateDto;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.pragadeesh.taskmanagement.model.TaskTombstone;
+import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.pragadeesh.taskmanagement.repository.TaskTombstoneRepository;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.pragadeesh.taskmanagement.util.TaskChangeCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({TaskService.class, UserDirectory.class, DepartmentDirectory.class, TaskChangeLog.class,
+        TaskChangesService.class})
+// Changes are stamped at commit, so every write here has to really commit
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TaskChangesTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskChangesService taskChangesService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    private Department department;
+
+    @BeforeEach
+    public void setUp() {
+        department = new Department();
+        department.setName("Engineering");
+        department = departmentRepository.save(department);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskTombstoneRepository.deleteAll();
+        taskRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    public void testOnlyChangesAfterTheCursorAreReturned() {
+        Task kept = taskService.createTask(newTask("Kept"));
+        Task updated = taskService.createTask(newTask("Updated"));
+        Task deleted = taskService.createTask(newTask("Deleted"));
+
+        TaskChanges initial = taskChangesService.getChanges(TaskChangeCursor.START, 10);
+        assertEquals(Set.of(kept.getId(), updated.getId(), deleted.getId()), idsOf(initial.getChanged()));
+        assertTrue(initial.getDeleted().isEmpty());
+        assertFalse(initial.isHasMore());
+
+        taskService.markTaskAsCompleted(updated.getId(), null);
+        taskService.deleteTask(deleted.getId());
+
+        TaskChanges delta = taskChangesService.getChanges(initial.getNext(), 10);
+        assertEquals(List.of(updated.getId()), delta.getChanged().stream().map(Task::getId).toList());
+        assertEquals(TaskStatus.COMPLETED, delta.getChanged().get(0).getStatus());
+        assertEquals(List.of(deleted.getId()), delta.getDeleted().stream().map(TaskTombstone::getTaskId).toList());
+
+        // Nothing new: same position comes back
+        TaskChanges idle = taskChangesService.getChanges(delta.getNext(), 10);
+        assertTrue(idle.getChanged().isEmpty());
+        assertTrue(idle.getDeleted().isEmpty());
+        assertEquals(delta.getNext().encode(), idle.getNext().encode());
+    }
+
+    @Test
+    public void testPagesSplitChangesFromOneTransaction() {
+        // One batch commits 7 tasks under a single change sequence value
+        List<TaskCreateDto> batch = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            batch.add(newTask("Task " + i));
+        }
+        taskService.createTasks(batch);
+
+        Set<UUID> seen = new HashSet<>();
+        TaskChangeCursor cursor = TaskChangeCursor.START;
+        int pages = 0;
+        TaskChanges page;
+        do {
+            page = taskChangesService.getChanges(cursor, 3);
+            page.getChanged().forEach(task -> assertTrue(seen.add(task.getId()), "Task returned twice"));
+            cursor = page.getNext();
+            pages++;
+        } while (page.isHasMore());
+
+        assertEquals(7, seen.size());
+        assertEquals(3, pages);
+    }
+
+    @Test
+    public void testCursorRoundTrip() {
+        TaskChangeCursor cursor = new TaskChangeCursor(42, UUID.randomUUID());
+
+        TaskChangeCursor decoded = TaskChangeCursor.decode(cursor.encode());
+
+        assertEquals(42, decoded.getChangeSeq());
+        assertEquals(cursor.getId(), decoded.getId());
+        assertThrows(IllegalArgumentException.class, () -> TaskChangeCursor.decode("not-a-cursor"));
+    }
+
+    private Set<UUID> idsOf(List<Task> tasks) {
+        return tasks.stream().map(Task::getId).collect(Collectors.toSet());
+    }
+
+    private TaskCreateDto newTask(String title) {
+        TaskCreateDto dto = new TaskCreateDto();
+        dto.setTitle(title);
+        dto.setDepartmentId(department.getId());
+        return dto;
+    }
+}
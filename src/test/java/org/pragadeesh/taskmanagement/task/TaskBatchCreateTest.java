@@ -0,0 +1,149 @@
+package org.pragadeesh.taskmanagement.task;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.dto.TaskBatchResponseDto;
+import org.pragadeesh.taskmanagement.dto.TaskCreateDto;
+import org.pragadeesh.taskmanagement.mapper.TaskMapper;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Role;
+import org.pragadeesh.taskmanagement.model.User;
+import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.pragadeesh.taskmanagement.repository.UserRepository;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import({TaskService.class, TaskMapper.class, UserDirectory.class, DepartmentDirectory.class})
+// Each service call commits on its own, like separate HTTP requests would
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TaskBatchCreateTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskBatchCreateTest.class);
+
+    private static final int TASK_COUNT = 2000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department department;
+    private List<User> users;
+
+    @BeforeEach
+    public void setUp() {
+        department = new Department();
+        department.setName("Engineering");
+        department = departmentRepository.save(department);
+
+        users = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setPassword("password");
+            user.setRole(Role.USER);
+            users.add(userRepository.save(user));
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    public void testBatchReportsInvalidItemsWithoutAbortingValidOnes() {
+        TaskCreateDto missingDepartment = taskCreateDto(0);
+        missingDepartment.setDepartmentId(UUID.randomUUID());
+        TaskCreateDto missingUser = taskCreateDto(1);
+        missingUser.setAssigneduserIds(Set.of(UUID.randomUUID()));
+
+        TaskBatchResponseDto response = taskService.createTasks(List.of(taskCreateDto(2), missingDepartment, missingUser));
+
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getFailed());
+        assertNotNull(response.getResults().get(0).getId());
+        assertFalse(response.getResults().get(1).isCreated());
+        assertFalse(response.getResults().get(2).isCreated());
+        assertEquals(1, taskRepository.count());
+    }
+
+    @Test
+    public void testBatchCreateVersusSingleCreates() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<TaskCreateDto> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            tasks.add(taskCreateDto(i));
+        }
+
+        statistics.clear();
+        long singleStart = System.nanoTime();
+        for (TaskCreateDto task : tasks) {
+            taskService.createTask(task);
+        }
+        long singleNanos = System.nanoTime() - singleStart;
+        long singleStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        long batchStart = System.nanoTime();
+        TaskBatchResponseDto response = taskService.createTasks(tasks);
+        long batchNanos = System.nanoTime() - batchStart;
+        long batchStatements = statistics.getPrepareStatementCount();
+
+        logger.info("{} tasks: single creates {} ms / {} statements, batch {} ms / {} statements",
+                TASK_COUNT, singleNanos / 1_000_000, singleStatements, batchNanos / 1_000_000, batchStatements);
+
+        assertEquals(TASK_COUNT, response.getCreated());
+        assertEquals(2L * TASK_COUNT, taskRepository.count());
+        assertTrue(batchStatements * 10 < singleStatements,
+                "batch path prepared " + batchStatements + " statements vs " + singleStatements);
+    }
+
+    private TaskCreateDto taskCreateDto(int i) {
+        TaskCreateDto dto = new TaskCreateDto();
+        dto.setTitle("Task " + i);
+        dto.setDueDate(LocalDate.now().plusDays(5));
+        dto.setDepartmentId(department.getId());
+        dto.setAssigneduserIds(Set.of(users.get(i % users.size()).getId(), users.get((i + 1) % users.size()).getId()));
+        return dto;
+    }
+}
@@ -0,0 +1,155 @@
+package org.pragadeesh.taskmanagement.task;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.mapper.TaskMapper;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Role;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.User;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.pragadeesh.taskmanagement.util.TaskExportFormat;
+import org.pragadeesh.taskmanagement.util.TaskExportWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import({TaskService.class, TaskMapper.class, UserDirectory.class, DepartmentDirectory.class})
+public class TaskExportTest {
+
+    private static final int TASK_COUNT = 1200;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Configured like Spring Boot's application ObjectMapper
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @BeforeEach
+    public void setUp() {
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Department department = new Department();
+            department.setName("Department " + i);
+            entityManager.persist(department);
+            departments.add(department);
+        }
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setPassword("password");
+            user.setRole(Role.USER);
+            user.setDepartment(departments.get(i % departments.size()));
+            entityManager.persist(user);
+            users.add(user);
+        }
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDescription(i % 2 == 0 ? "plain" : "needs, \"quoting\"\nacross lines");
+            task.setDueDate(LocalDate.now().plusDays(5));
+            task.setDepartment(departments.get(i % departments.size()));
+            task.setAssignedUsers(Set.of(users.get(i % users.size()), users.get((i + 1) % users.size())));
+            entityManager.persist(task);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testExportKeepsPersistenceContextBounded() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        AtomicLong maxManaged = new AtomicLong();
+
+        long exported = taskService.exportTasks(task -> {
+            assertEquals(2, task.getAssignedUsers().size());
+            maxManaged.accumulateAndGet(entityManager.unwrap(Session.class).getStatistics().getEntityCount(), Math::max);
+        });
+
+        assertEquals(TASK_COUNT, exported);
+        // Without periodic clears every streamed task would stay managed until the end
+        assertTrue(maxManaged.get() <= TaskRepository.EXPORT_FETCH_SIZE + 50, "managed entities: " + maxManaged.get());
+        // The streaming query plus one assignee query per chunk, not one query per task
+        long chunks = (TASK_COUNT + TaskRepository.EXPORT_FETCH_SIZE - 1) / TaskRepository.EXPORT_FETCH_SIZE;
+        assertEquals(1 + chunks, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testNdjsonExportWritesOneDocumentPerLine() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TaskExportWriter writer = TaskExportFormat.NDJSON.open(out, objectMapper, taskMapper)) {
+            taskService.exportTasks(writer::write);
+        }
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(TASK_COUNT, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("Task 0", first.get("title").asText());
+        assertEquals(2, first.get("assignedUsers").size());
+        assertTrue(first.get("createdAt").isTextual());
+    }
+
+    @Test
+    public void testCsvExportQuotesSpecialCharacters() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TaskExportWriter writer = TaskExportFormat.CSV.open(out, objectMapper, taskMapper)) {
+            taskService.exportTasks(writer::write);
+        }
+
+        String csv = out.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id,title,description,status,"));
+        assertTrue(csv.contains(",\"needs, \"\"quoting\"\"\nacross lines\","));
+        // Header plus one CRLF-terminated record per task; embedded newlines are bare \n
+        assertEquals(TASK_COUNT + 1, csv.split("\r\n").length);
+    }
+
+    @Test
+    public void testUnknownFormatIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> TaskExportFormat.from("xml"));
+        assertEquals(TaskExportFormat.CSV, TaskExportFormat.from("CSV"));
+    }
+}
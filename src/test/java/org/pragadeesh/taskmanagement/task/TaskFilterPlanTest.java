@@ -0,0 +1,204 @@
+package org.pragadeesh.taskmanagement.task;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.dto.TaskFilterDto;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Role;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.pragadeesh.taskmanagement.model.User;
+import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.pragadeesh.taskmanagement.repository.UserRepository;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.pragadeesh.taskmanagement.util.TaskCursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks with H2's EXPLAIN that every combination of filters the endpoint supports is answered
+ * from an index. H2 reports a full scan as "tableScan" in the plan of the affected table.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "org.pragadeesh.taskmanagement.task.TaskFilterPlanTest$CapturingInspector",
+        "spring.jpa.show-sql=false"
+})
+@Import({TaskService.class, UserDirectory.class, DepartmentDirectory.class})
+// ANALYZE commits in H2, so the data is committed up front and removed after each test
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TaskFilterPlanTest {
+
+    private static final List<String> CAPTURED = new CopyOnWriteArrayList<>();
+
+    public static class CapturingInspector implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Department department;
+    private User assignee;
+    private Task middle;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Department d = new Department();
+            d.setName("Department " + i);
+            departments.add(d);
+        }
+        departments = departmentRepository.saveAll(departments);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setPassword("password");
+            user.setRole(Role.USER);
+            user.setDepartment(departments.get(i % departments.size()));
+            users.add(user);
+        }
+        users = userRepository.saveAll(users);
+
+        TaskStatus[] statuses = TaskStatus.values();
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDueDate(LocalDate.now().plusDays(1 + i % 365));
+            task.setStatus(statuses[i % statuses.length]);
+            task.setDepartment(departments.get(i % departments.size()));
+            task.setAssignedUsers(Set.of(users.get(i % users.size()), users.get((i + 7) % users.size())));
+            tasks.add(task);
+        }
+        tasks = taskRepository.saveAll(tasks);
+
+        department = departments.get(3);
+        assignee = users.get(42);
+        middle = tasks.get(1500);
+
+        // Refresh the optimizer's row counts and selectivity so plans reflect the data, not empty tables
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    public void testEverySupportedFilterCombinationUsesAnIndex() {
+        List<Consumer<TaskFilterDto>> predicates = List.of(
+                filter -> filter.setStatus(TaskStatus.IN_PROGRESS),
+                filter -> filter.setDepartmentId(department.getId()),
+                filter -> filter.setAssigneeId(assignee.getId()),
+                filter -> {
+                    filter.setDueFrom(LocalDate.now().plusDays(10));
+                    filter.setDueTo(LocalDate.now().plusDays(20));
+                },
+                filter -> {
+                    filter.setCreatedFrom(middle.getCreatedAt().minusSeconds(1));
+                    filter.setCreatedTo(middle.getCreatedAt().plusSeconds(1));
+                });
+
+        List<String> failures = new ArrayList<>();
+        for (int mask = 1; mask < 1 << predicates.size(); mask++) {
+            TaskFilterDto filter = new TaskFilterDto();
+            for (int i = 0; i < predicates.size(); i++) {
+                if ((mask & 1 << i) != 0) {
+                    predicates.get(i).accept(filter);
+                }
+            }
+            for (TaskCursor after : new TaskCursor[]{null, TaskCursor.of(middle)}) {
+                String plan = explain(capturedFilterQuery(filter, after));
+                if (isFullScan(plan)) {
+                    failures.add(filter + (after == null ? "" : " after cursor") + ":\n" + plan);
+                }
+            }
+        }
+
+        assertTrue(failures.isEmpty(), String.join("\n\n", failures));
+    }
+
+    @Test
+    public void testUnindexedPredicateIsReportedAsFullScan() {
+        // Guards the check above: a predicate without an index must show up as a table scan
+        assertTrue(isFullScan(explain("SELECT id FROM tasks WHERE title = ?")));
+    }
+
+    private String capturedFilterQuery(TaskFilterDto filter, TaskCursor after) {
+        CAPTURED.clear();
+        taskService.filterTasks(filter, after, 51);
+        String sql = CAPTURED.get(0);
+        assertTrue(sql.contains("tasks"), sql);
+        return sql;
+    }
+
+    private static boolean isFullScan(String plan) {
+        return plan.toLowerCase().contains("tablescan");
+    }
+
+    // H2 picks the plan at prepare time, so unbound (null) parameters yield the same access paths
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.pragadeesh.taskmanagement.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.Exception.UserNotFoundException;
+import org.pragadeesh.taskmanagement.dto.TaskResponseDto;
+import org.pragadeesh.taskmanagement.mapper.TaskMapper;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Role;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.User;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import({TaskService.class, TaskMapper.class, UserDirectory.class, DepartmentDirectory.class})
+public class TaskQueryCountTest {
+
+    private static final int TASK_COUNT = 1000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskMapper taskMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<User> users;
+
+    @BeforeEach
+    public void setUp() {
+        List<Department> departments = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Department department = new Department();
+            department.setName("Department " + i);
+            entityManager.persist(department);
+            departments.add(department);
+        }
+
+        users = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setPassword("password");
+            user.setRole(Role.USER);
+            user.setDepartment(departments.get(i % departments.size()));
+            entityManager.persist(user);
+            users.add(user);
+        }
+
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDueDate(LocalDate.now().plusDays(5));
+            task.setDepartment(departments.get(i % departments.size()));
+            task.setAssignedUsers(Set.of(
+                    users.get(i % users.size()),
+                    users.get((i + 1) % users.size()),
+                    users.get((i + 2) % users.size())));
+            entityManager.persist(task);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testTaskListingUsesFixedNumberOfQueries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TaskResponseDto> tasks = taskService.getTaskPage(null, TASK_COUNT)
+                .stream()
+                .map(taskMapper::toDto)
+                .toList();
+
+        assertEquals(TASK_COUNT, tasks.size());
+        assertTrue(tasks.stream().allMatch(task -> task.getAssignedUsers().size() == 3));
+        assertTrue(tasks.stream().allMatch(task -> task.getDepartment() != null));
+        // One keyset page query plus one batch query per Task.ASSIGNEE_BATCH_SIZE assignee sets
+        assertEquals(1 + TASK_COUNT / Task.ASSIGNEE_BATCH_SIZE, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testReassignmentOnlyWritesChangedRows() {
+        Task task = taskService.getTaskPage(null, 1).get(0);
+        Set<UUID> userIds = task.getAssignedUsers().stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        Set<UUID> loadedDepartmentIds = task.getAssignedUsers().stream()
+                .map(user -> user.getDepartment().getId())
+                .collect(Collectors.toSet());
+        // Swap one assignee for a user whose department is already loaded with the task
+        User replacement = users.stream()
+                .filter(user -> !userIds.contains(user.getId()))
+                .filter(user -> loadedDepartmentIds.contains(user.getDepartment().getId()))
+                .findFirst()
+                .orElseThrow();
+        userIds.remove(userIds.iterator().next());
+        userIds.add(replacement.getId());
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Task updated = taskService.assignUsersToTask(task.getId(), userIds, null);
+        entityManager.flush();
+
+        assertEquals(3, updated.getAssignedUsers().size());
+        // Load task, resolve users, a single row delete and a single row insert, then the version bump
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    public void testAssigningUnknownUsersReportsEveryMissingId() {
+        Task task = taskService.getTaskPage(null, 1).get(0);
+        UUID firstMissing = UUID.randomUUID();
+        UUID secondMissing = UUID.randomUUID();
+
+        UserNotFoundException exception = assertThrows(UserNotFoundException.class, () ->
+                taskService.assignUsersToTask(task.getId(), Set.of(users.get(0).getId(), firstMissing, secondMissing), null));
+
+        assertTrue(exception.getMessage().contains(firstMissing.toString()));
+        assertTrue(exception.getMessage().contains(secondMissing.toString()));
+    }
+}
@@ -0,0 +1,145 @@
+package org.pragadeesh.taskmanagement.task;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Role;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.User;
+import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.pragadeesh.taskmanagement.repository.UserRepository;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import({TaskService.class, UserDirectory.class, DepartmentDirectory.class})
+// Cache entries only become visible to other sessions once the writing transaction commits
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TaskSecondLevelCacheTest {
+
+    private static final int TASK_COUNT = 200;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private List<User> users;
+
+    @BeforeEach
+    public void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+
+        Department department = new Department();
+        department.setName("Engineering");
+        department = departmentRepository.save(department);
+
+        users = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setPassword("password");
+            user.setRole(Role.USER);
+            user.setDepartment(department);
+            users.add(user);
+        }
+        users = userRepository.saveAll(users);
+
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setDueDate(LocalDate.now().plusDays(5));
+            task.setDepartment(department);
+            task.setAssignedUsers(Set.of(users.get(i % users.size()), users.get((i + 1) % users.size())));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    public void testWarmListingOnlyRunsThePageQuery() {
+        statistics.clear();
+        List<Task> cold = taskService.getTaskPage(null, TASK_COUNT);
+        assertEquals(TASK_COUNT, cold.size());
+        // Keyset page plus one query for the assignees, which then land in the cache
+        assertEquals(2, statistics.getPrepareStatementCount());
+
+        statistics.clear();
+        List<Task> warm = taskService.getTaskPage(null, TASK_COUNT);
+
+        assertEquals(TASK_COUNT, warm.size());
+        assertTrue(warm.stream().allMatch(task -> task.getAssignedUsers().size() == 2));
+        assertTrue(warm.stream()
+                .flatMap(task -> task.getAssignedUsers().stream())
+                .allMatch(user -> "Engineering".equals(user.getDepartment().getName())));
+        // Assignees, their users and departments all come from the second-level cache
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(TASK_COUNT, statistics.getCollectionStatistics(Task.class.getName() + ".assignedUsers")
+                .getCacheHitCount());
+    }
+
+    @Test
+    public void testReassignmentIsVisibleThroughTheCache() {
+        Task task = taskService.getTaskPage(null, 1).get(0);
+        Set<UUID> assignees = task.getAssignedUsers().stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        UUID replacement = users.stream()
+                .map(User::getId)
+                .filter(id -> !assignees.contains(id))
+                .findFirst()
+                .orElseThrow();
+
+        taskService.assignUsersToTask(task.getId(), Set.of(replacement), null);
+
+        Task reloaded = taskService.getTaskPage(null, 1).get(0);
+        assertEquals(Set.of(replacement), reloaded.getAssignedUsers().stream()
+                .map(User::getId)
+                .collect(Collectors.toSet()));
+    }
+}
@@ -13,7 +13,6 @@ import org.pragadeesh.taskmanagement.repository.TaskRepository;
 import org.pragadeesh.taskmanagement.service.TaskService;
 
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -41,18 +40,6 @@ public class TaskServiceTest {
         task.setStatus(TaskStatus.PENDING);
     }
 
-    @Test
-    public void testGetAllTasks() {
-        when(taskRepository.findAll()).thenReturn(List.of(task));
-
-        List<Task> tasks = taskService.getAllTask();
-
-        assertNotNull(tasks);
-        assertEquals(1, tasks.size());
-        assertEquals("Test Task", tasks.get(0).getTitle());
-        verify(taskRepository, times(1)).findAll();
-    }
-
     @Test
     public void testGetTaskById() {
         when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
@@ -0,0 +1,181 @@
+package org.pragadeesh.taskmanagement.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.dto.TaskFilterDto;
+import org.pragadeesh.taskmanagement.dto.TaskStatusUpdateDto;
+import org.pragadeesh.taskmanagement.dto.TaskStatusUpdateResponseDto;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.model.TaskStatus;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+        "tasks.batch.max-items=900"
+})
+@Import({TaskService.class, UserDirectory.class, DepartmentDirectory.class})
+public class TaskStatusUpdateTest {
+
+    private static final int TASK_COUNT = 1200;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department engineering;
+    private Department marketing;
+    private List<Task> tasks;
+
+    @BeforeEach
+    public void setUp() {
+        engineering = new Department();
+        engineering.setName("Engineering");
+        entityManager.persist(engineering);
+        marketing = new Department();
+        marketing.setName("Marketing");
+        entityManager.persist(marketing);
+
+        tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            // 200 completed, 200 in progress, 800 pending
+            task.setStatus(i % 6 == 0 ? TaskStatus.COMPLETED : i % 6 == 1 ? TaskStatus.IN_PROGRESS : TaskStatus.PENDING);
+            // Keep every fourth task out of the filtered department
+            task.setDepartment(i % 4 == 0 ? marketing : engineering);
+            tasks.add(task);
+        }
+        tasks = taskRepository.saveAll(tasks);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    public void testIdsAreReportedByOutcome() {
+        Task completed = tasks.get(0);
+        Task inProgress = tasks.get(1);
+        Task pending = tasks.get(2);
+        UUID missing = UUID.randomUUID();
+
+        TaskStatusUpdateResponseDto response = taskService.updateStatuses(byIds(TaskStatus.IN_PROGRESS,
+                List.of(pending.getId(), inProgress.getId(), completed.getId(), missing, pending.getId())));
+
+        assertEquals(1, response.getUpdated());
+        assertEquals(List.of(pending.getId()), response.getUpdatedIds());
+        assertEquals(List.of(inProgress.getId()), response.getUnchangedIds());
+        assertEquals(List.of(completed.getId()), response.getAlreadyCompletedIds());
+        assertEquals(List.of(missing), response.getNotFoundIds());
+
+        Task reloaded = taskRepository.findById(pending.getId()).orElseThrow();
+        assertEquals(TaskStatus.IN_PROGRESS, reloaded.getStatus());
+        assertEquals(pending.getVersion() + 1, reloaded.getVersion());
+        assertEquals(inProgress.getVersion(), taskRepository.findById(inProgress.getId()).orElseThrow().getVersion());
+    }
+
+    @Test
+    public void testChunksAreUpdatedWithoutLoadingTasks() {
+        List<UUID> ids = tasks.subList(0, 900).stream().map(Task::getId).collect(Collectors.toList());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        TaskStatusUpdateResponseDto response = taskService.updateStatuses(byIds(TaskStatus.COMPLETED, ids));
+        entityManager.flush();
+
+        // Two chunks, each a locking read, one UPDATE and one read of the assignee ids for the change events
+        assertEquals(6, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(150, response.getAlreadyCompletedIds().size());
+        assertEquals(750, response.getUpdated());
+    }
+
+    @Test
+    public void testFilterStopsAtTheLimitAndCanBeRepeated() {
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setDepartmentId(engineering.getId());
+        // 900 engineering tasks, 100 of them completed
+        TaskStatusUpdateDto request = new TaskStatusUpdateDto();
+        request.setStatus(TaskStatus.COMPLETED);
+        request.setFilter(filter);
+
+        TaskStatusUpdateResponseDto first = taskService.updateStatuses(request);
+        assertEquals(800, first.getUpdated());
+        assertFalse(first.isHasMore());
+        assertTrue(first.getUnchangedIds().isEmpty());
+        assertTrue(first.getAlreadyCompletedIds().isEmpty());
+
+        filter.setDepartmentId(null);
+        TaskStatusUpdateResponseDto second = taskService.updateStatuses(request);
+        // Only the 200 movable marketing tasks are left
+        assertEquals(200, second.getUpdated());
+        assertFalse(second.isHasMore());
+
+        entityManager.clear();
+        assertTrue(taskRepository.findAll().stream().allMatch(task -> task.getStatus() == TaskStatus.COMPLETED));
+    }
+
+    @Test
+    public void testFilterReportsWhenTheLimitWasReached() {
+        TaskStatusUpdateDto request = new TaskStatusUpdateDto();
+        request.setStatus(TaskStatus.COMPLETED);
+        request.setFilter(new TaskFilterDto());
+
+        // 1000 tasks can move, the limit is 900
+        TaskStatusUpdateResponseDto first = taskService.updateStatuses(request);
+        assertEquals(900, first.getUpdated());
+        assertTrue(first.isHasMore());
+
+        TaskStatusUpdateResponseDto second = taskService.updateStatuses(request);
+        assertEquals(100, second.getUpdated());
+        assertFalse(second.isHasMore());
+    }
+
+    @Test
+    public void testRequestNeedsStatusAndExactlyOneSelector() {
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.updateStatuses(byIds(null, List.of(tasks.get(0).getId()))));
+
+        TaskStatusUpdateDto neither = new TaskStatusUpdateDto();
+        neither.setStatus(TaskStatus.COMPLETED);
+        assertThrows(IllegalArgumentException.class, () -> taskService.updateStatuses(neither));
+
+        TaskStatusUpdateDto both = byIds(TaskStatus.COMPLETED, List.of(tasks.get(0).getId()));
+        both.setFilter(new TaskFilterDto());
+        assertThrows(IllegalArgumentException.class, () -> taskService.updateStatuses(both));
+    }
+
+    private TaskStatusUpdateDto byIds(TaskStatus status, List<UUID> ids) {
+        TaskStatusUpdateDto request = new TaskStatusUpdateDto();
+        request.setStatus(status);
+        request.setIds(ids);
+        return request;
+    }
+}
@@ -0,0 +1,138 @@
+package org.pragadeesh.taskmanagement.task;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.Exception.TaskNotFoundException;
+import org.pragadeesh.taskmanagement.Exception.TaskVersionMismatchException;
+import org.pragadeesh.taskmanagement.dto.TaskCreateDto;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Task;
+import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.pragadeesh.taskmanagement.repository.TaskRepository;
+import org.pragadeesh.taskmanagement.service.DepartmentDirectory;
+import org.pragadeesh.taskmanagement.service.TaskService;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.pragadeesh.taskmanagement.util.TaskETag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({TaskService.class, UserDirectory.class, DepartmentDirectory.class})
+// Every service call commits on its own, like concurrent requests would
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class TaskVersionTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    private Department department;
+    private Task task;
+
+    @BeforeEach
+    public void setUp() {
+        department = new Department();
+        department.setName("Engineering");
+        department = departmentRepository.save(department);
+        task = taskService.createTask(newTask("Write report"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        taskRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    public void testEveryUpdateBumpsTheVersion() {
+        assertEquals(0L, task.getVersion());
+        assertEquals(0L, taskService.getTaskVersion(task.getId()));
+
+        Task updated = taskService.updateTask(task.getId(), newTask("Write final report"), 0L);
+        assertEquals(1L, updated.getVersion());
+
+        Task completed = taskService.markTaskAsCompleted(task.getId(), 1L);
+        assertEquals(2L, completed.getVersion());
+        assertEquals(2L, taskService.getTaskVersion(task.getId()));
+    }
+
+    @Test
+    public void testStaleExpectedVersionIsRejectedWithoutWriting() {
+        taskService.updateTask(task.getId(), newTask("Write final report"), null);
+
+        assertThrows(TaskVersionMismatchException.class,
+                () -> taskService.updateTask(task.getId(), newTask("Overwritten"), 0L));
+        assertThrows(TaskVersionMismatchException.class,
+                () -> taskService.markTaskAsCompleted(task.getId(), 0L));
+
+        Task current = taskService.getTaskById(task.getId());
+        assertEquals("Write final report", current.getTitle());
+        assertEquals(1L, current.getVersion());
+    }
+
+    @Test
+    public void testConcurrentWriteFromAStaleCopyFails() {
+        Task stale = taskService.getTaskById(task.getId());
+        taskService.updateTask(task.getId(), newTask("Write final report"), null);
+
+        stale.setTitle("Lost update");
+        assertThrows(OptimisticLockingFailureException.class, () -> taskRepository.save(stale));
+        assertEquals("Write final report", taskService.getTaskById(task.getId()).getTitle());
+    }
+
+    @Test
+    public void testVersionOfUnknownTask() {
+        assertThrows(TaskNotFoundException.class, () -> taskService.getTaskVersion(UUID.randomUUID()));
+    }
+
+    @Test
+    public void testIfMatchParsing() {
+        assertEquals("\"7\"", TaskETag.of(7, MediaType.APPLICATION_JSON));
+        assertEquals(7L, TaskETag.expectedVersion("\"7\""));
+        // Every encoding of a version gets its own tag, and any of them names that version
+        assertEquals("\"7-cbor\"", TaskETag.of(7, MediaType.APPLICATION_CBOR));
+        assertEquals("\"7-smile\"", TaskETag.of(7, TaskETag.APPLICATION_SMILE));
+        assertEquals(7L, TaskETag.expectedVersion("\"7-cbor\""));
+        assertEquals(7L, TaskETag.expectedVersion("\"7-smile\""));
+        assertNull(TaskETag.expectedVersion(null));
+        assertNull(TaskETag.expectedVersion("*"));
+        // Weak or foreign tags can never match a task version
+        assertEquals(-1L, TaskETag.expectedVersion("W/\"7\""));
+        assertEquals(-1L, TaskETag.expectedVersion("\"abc\""));
+    }
+
+    @Test
+    public void testETagFollowsNegotiatedEncoding() {
+        assertEquals(MediaType.APPLICATION_JSON, TaskETag.representation(null));
+        assertEquals(MediaType.APPLICATION_JSON, TaskETag.representation("*/*"));
+        assertEquals(MediaType.APPLICATION_JSON, TaskETag.representation("application/cbor;q=0.5, application/json"));
+        assertEquals(MediaType.APPLICATION_CBOR, TaskETag.representation("application/cbor"));
+        assertEquals(TaskETag.APPLICATION_SMILE, TaskETag.representation("application/x-jackson-smile, */*;q=0.1"));
+        assertNull(TaskETag.representation("text/csv"));
+    }
+
+    private TaskCreateDto newTask(String title) {
+        TaskCreateDto dto = new TaskCreateDto();
+        dto.setTitle(title);
+        dto.setDepartmentId(department.getId());
+        return dto;
+    }
+}
@@ -0,0 +1,156 @@
+package org.pragadeesh.taskmanagement.user;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.model.Department;
+import org.pragadeesh.taskmanagement.model.Role;
+import org.pragadeesh.taskmanagement.model.User;
+import org.pragadeesh.taskmanagement.repository.DepartmentRepository;
+import org.pragadeesh.taskmanagement.repository.UserRepository;
+import org.pragadeesh.taskmanagement.service.UserDirectory;
+import org.pragadeesh.taskmanagement.service.UserSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@Import(UserDirectory.class)
+// The directory outlives transactions, as it does in the application, so every write here commits
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class UserDirectoryTest {
+
+    @Autowired
+    private UserDirectory userDirectory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Department engineering;
+    private User alice;
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setUp() {
+        userDirectory.evictAll();
+        engineering = new Department();
+        engineering.setName("Engineering");
+        engineering = departmentRepository.save(engineering);
+
+        alice = new User();
+        alice.setUsername("alice");
+        alice.setPassword("$2a$10$hash");
+        alice.setRole(Role.USER);
+        alice.setDepartment(engineering);
+        alice = userRepository.save(alice);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Keep the entity cache out of the way, so every directory miss shows up as a statement
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    public void testLookupsAreServedFromTheDirectory() {
+        CacheStats byUsername = userDirectory.getByUsernameStats();
+        CacheStats byId = userDirectory.getByIdStats();
+        statistics.clear();
+        assertTrue(userDirectory.findByUsername("alice").isPresent());
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+
+        statistics.clear();
+        assertEquals(alice.getId(), userDirectory.findByUsername("alice").orElseThrow().id());
+        assertEquals("alice", userDirectory.findById(alice.getId()).orElseThrow().username());
+        assertEquals(1, userDirectory.findAllById(List.of(alice.getId())).size());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        // Stats accumulate over the directory's lifetime, which spans the whole test class
+        assertEquals(1, userDirectory.getByUsernameStats().minus(byUsername).missCount());
+        assertEquals(1, userDirectory.getByUsernameStats().minus(byUsername).hitCount());
+        assertEquals(2, userDirectory.getByIdStats().minus(byId).hitCount());
+    }
+
+    @Test
+    public void testUnknownUsersAreLookedUpEveryTime() {
+        UUID unknownId = UUID.randomUUID();
+        statistics.clear();
+
+        assertTrue(userDirectory.findByUsername("nobody").isEmpty());
+        assertTrue(userDirectory.findByUsername("nobody").isEmpty());
+        assertEquals(List.of(), userDirectory.findAllById(List.of(unknownId)));
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(0, userDirectory.getUsersByUsername().estimatedSize());
+        assertEquals(0, userDirectory.getUsersById().estimatedSize());
+    }
+
+    @Test
+    public void testBothLookupsShareOneSnapshotWithoutThePassword() {
+        UserSnapshot byUsername = userDirectory.findByUsername("alice").orElseThrow();
+        UserSnapshot byId = userDirectory.findById(alice.getId()).orElseThrow();
+
+        assertSame(byUsername, byId);
+        assertSame(byUsername, userDirectory.findAllById(List.of(alice.getId())).get(0));
+        assertNull(byUsername.getPassword());
+        assertEquals(engineering.getId(), byUsername.departmentId());
+        assertEquals(List.of("ROLE_USER"), byUsername.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+    }
+
+    @Test
+    public void testWriteEvictsBothLookups() {
+        userDirectory.findById(alice.getId());
+
+        User stored = userRepository.findById(alice.getId()).orElseThrow();
+        stored.setUsername("alicia");
+        stored.setRole(Role.ADMIN);
+        userDirectory.evict(userRepository.save(stored));
+
+        // The old name is gone even though the evicted entity only carries the new one
+        assertTrue(userDirectory.findByUsername("alice").isEmpty());
+        assertEquals(Role.ADMIN, userDirectory.findByUsername("alicia").orElseThrow().role());
+        assertEquals("alicia", userDirectory.findById(alice.getId()).orElseThrow().username());
+    }
+
+    @Test
+    public void testEvictAllDropsEveryEntry() {
+        userDirectory.findByUsername("alice");
+        userDirectory.evictAll();
+        entityManagerFactory.getCache().evictAll();
+        CacheStats byId = userDirectory.getByIdStats();
+
+        statistics.clear();
+        assertTrue(userDirectory.findById(alice.getId()).isPresent());
+        assertTrue(statistics.getPrepareStatementCount() > 0);
+        assertEquals(1, userDirectory.getByIdStats().minus(byId).missCount());
+    }
+}
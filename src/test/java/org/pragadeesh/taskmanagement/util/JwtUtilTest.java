@@ -0,0 +1,76 @@
+package org.pragadeesh.taskmanagement.util;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.model.Role;
+import org.pragadeesh.taskmanagement.model.User;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtUtilTest {
+
+    private static final String SECRET_KEY = "c2VjcmV0LWtleS1mb3ItdGVzdHMtdGhhdC1pcy1sb25nLWVub3VnaC1mb3ItaHMyNTY";
+
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "SECRET_KEY", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtUtil, "verifiedCacheMaxSize", 100L);
+        jwtUtil.init();
+
+        user = new User();
+        user.setUsername("alice");
+        user.setRole(Role.USER);
+    }
+
+    @Test
+    public void testValidateTokenReturnsPrincipal() {
+        String token = jwtUtil.generateToken(user);
+
+        JwtPrincipal principal = jwtUtil.validateToken(token);
+
+        assertEquals("alice", principal.getUsername());
+        assertFalse(principal.isExpired());
+        assertTrue(jwtUtil.isValid(token, user));
+    }
+
+    @Test
+    public void testRepeatedValidationIsServedFromCache() {
+        String token = jwtUtil.generateToken(user);
+
+        assertSame(jwtUtil.validateToken(token), jwtUtil.validateToken(token));
+    }
+
+    @Test
+    public void testTamperedTokenIsRejected() {
+        String token = jwtUtil.generateToken(user);
+        jwtUtil.validateToken(token);
+
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> jwtUtil.validateToken(tampered));
+    }
+
+    @Test
+    public void testExpiredTokenIsRejected() {
+        String token = Jwts.builder()
+                .subject("alice")
+                .issuedAt(new Date(System.currentTimeMillis() - 20000))
+                .expiration(new Date(System.currentTimeMillis() - 10000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(SECRET_KEY)))
+                .compact();
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.validateToken(token));
+    }
+}
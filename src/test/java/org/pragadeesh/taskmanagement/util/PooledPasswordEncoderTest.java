@@ -0,0 +1,59 @@
+package org.pragadeesh.taskmanagement.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.pragadeesh.taskmanagement.Exception.PasswordHashingBusyException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PooledPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PooledPasswordEncoder encoder;
+
+    @AfterEach
+    public void tearDown() {
+        encoder.shutdown();
+    }
+
+    @Test
+    public void testHashesWithOtherCostNeedUpgrade() {
+        encoder = new PooledPasswordEncoder(meterRegistry, 5, 1, 4);
+
+        String hash = encoder.encode("secret");
+
+        assertTrue(hash.startsWith("$2a$05$"));
+        assertTrue(encoder.matches("secret", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret")));
+        assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    public void testFullQueueIsRejectedRightAway() throws Exception {
+        encoder = new PooledPasswordEncoder(meterRegistry, 12, 1, 1);
+
+        // One job runs on the single hasher, the other fills the queue
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        for (int i = 0; i < 1000 && meterRegistry.get("auth.password.queue.size").gauge().value() < 1; i++) {
+            Thread.sleep(1);
+        }
+
+        long start = System.nanoTime();
+        assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("third"));
+        assertTrue(System.nanoTime() - start < 50_000_000L, "Rejection must not wait for a hasher");
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+
+        String firstHash = first.get();
+        String secondHash = second.get();
+        assertTrue(encoder.matches("first", firstHash));
+        assertTrue(encoder.matches("second", secondHash));
+    }
+}